@@ -0,0 +1,82 @@
+package kitchenpos.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(prefix = "kitchenpos.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfiguration {
+
+    @Bean
+    public ReplicaHealth replicaHealth() {
+        return new ReplicaHealth();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig primaryHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    @ConfigurationProperties("kitchenpos.datasource.replica.hikari")
+    public HikariConfig replicaHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    public ReadReplicaDataSources readReplicaDataSources(
+            DataSourceProperties dataSourceProperties,
+            @Qualifier("primaryHikariConfig") HikariConfig primaryHikariConfig,
+            @Qualifier("replicaHikariConfig") HikariConfig replicaHikariConfig,
+            @Value("${kitchenpos.datasource.replica.url}") String url,
+            @Value("${kitchenpos.datasource.replica.username:${spring.datasource.username:sa}}") String username,
+            @Value("${kitchenpos.datasource.replica.password:${spring.datasource.password:}}") String password
+    ) {
+        primaryHikariConfig.setJdbcUrl(dataSourceProperties.determineUrl());
+        primaryHikariConfig.setUsername(dataSourceProperties.determineUsername());
+        primaryHikariConfig.setPassword(dataSourceProperties.determinePassword());
+        primaryHikariConfig.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        primaryHikariConfig.setPoolName("primary");
+
+        replicaHikariConfig.setJdbcUrl(url);
+        replicaHikariConfig.setUsername(username);
+        replicaHikariConfig.setPassword(password);
+        replicaHikariConfig.setPoolName("replica");
+        replicaHikariConfig.setReadOnly(true);
+
+        return new ReadReplicaDataSources(new HikariDataSource(primaryHikariConfig),
+                new HikariDataSource(replicaHikariConfig));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaDataSources readReplicaDataSources, ReplicaHealth replicaHealth) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                readReplicaDataSources.getPrimary(), readReplicaDataSources.getReplica(), replicaHealth);
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReadReplicaDataSources readReplicaDataSources,
+            ReplicaHealth replicaHealth,
+            @Value("${kitchenpos.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${kitchenpos.datasource.replica.max-lag-millis:1000}") long maxLagMillis,
+            @Value("${kitchenpos.datasource.replica.check-interval-millis:1000}") long checkIntervalMillis
+    ) {
+        return new ReplicaLagMonitor(readReplicaDataSources.getReplica(), replicaHealth, lagQuery, maxLagMillis,
+                checkIntervalMillis);
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+public class ReadReplicaDataSources implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    public ReadReplicaDataSources(HikariDataSource primary, HikariDataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public HikariDataSource getReplica() {
+        return replica;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
@@ -0,0 +1,25 @@
+package kitchenpos.datasource;
+
+public class ReplicaHealth {
+
+    private volatile boolean available = true;
+    private volatile String reason;
+
+    public void markAvailable() {
+        this.available = true;
+        this.reason = null;
+    }
+
+    public void markUnavailable(String reason) {
+        this.available = false;
+        this.reason = reason;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
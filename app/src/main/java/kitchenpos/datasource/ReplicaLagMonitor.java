@@ -0,0 +1,87 @@
+package kitchenpos.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+
+public class ReplicaLagMonitor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource replica;
+    private final ReplicaHealth replicaHealth;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaHealth replicaHealth, String lagQuery, long maxLagMillis,
+            long checkIntervalMillis) {
+        this.replica = replica;
+        this.replicaHealth = replicaHealth;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        warnIfLagIsNotChecked();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(createThreadFactory());
+        this.scheduler.scheduleWithFixedDelay(this::check, 0L, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void warnIfLagIsNotChecked() {
+        if (!StringUtils.hasText(lagQuery)) {
+            log.warn("kitchenpos.datasource.replica.lag-query is not set. Replica lag is not checked, "
+                    + "so read-only transactions go to the replica whenever it accepts connections.");
+        }
+    }
+
+    private CustomizableThreadFactory createThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-lag-monitor-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                replicaHealth.markUnavailable("replica connection is not valid");
+                return;
+            }
+            long lagMillis = findLagMillis(connection);
+            if (lagMillis > maxLagMillis) {
+                replicaHealth.markUnavailable("replica lag " + lagMillis + "ms exceeds " + maxLagMillis + "ms");
+                return;
+            }
+            replicaHealth.markAvailable();
+        } catch (SQLException e) {
+            replicaHealth.markUnavailable(e.getMessage());
+        }
+    }
+
+    private long findLagMillis(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            return 0L;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            return resultSet.getLong(1);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -1,6 +1,7 @@
 package kitchenpos.eventlistener;
 
-import kitchenpos.event.ValidateMenuExistsEvent;
+import java.util.List;
+import kitchenpos.event.ValidateMenusExistEvent;
 import kitchenpos.service.MenuService;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -8,14 +9,23 @@ import org.springframework.stereotype.Component;
 @Component
 public class MenuEventListener {
 
+    private static final String MENU_EXISTS = "menuExists";
+
     private final MenuService menuService;
+    private final ValidationMemo validationMemo;
 
-    public MenuEventListener(MenuService menuService) {
+    public MenuEventListener(MenuService menuService, ValidationMemo validationMemo) {
         this.menuService = menuService;
+        this.validationMemo = validationMemo;
     }
 
     @EventListener
-    public void validateMenuExists(ValidateMenuExistsEvent event) {
-        menuService.validateMenuExists(event.getMenuId());
+    public void validateMenusExist(ValidateMenusExistEvent event) {
+        List<Long> menuIds = validationMemo.filterNotValidated(MENU_EXISTS, event.getMenuIds());
+        if (menuIds.isEmpty()) {
+            return;
+        }
+        menuService.validateMenusExist(menuIds);
+        validationMemo.markValidated(MENU_EXISTS, menuIds);
     }
 }
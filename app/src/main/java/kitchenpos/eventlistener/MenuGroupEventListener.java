@@ -8,14 +8,20 @@ import org.springframework.stereotype.Component;
 @Component
 public class MenuGroupEventListener {
 
+    private static final String MENU_GROUP_EXISTS = "menuGroupExists";
+
     private final MenuGroupService menuGroupService;
+    private final ValidationMemo validationMemo;
 
-    public MenuGroupEventListener(MenuGroupService menuGroupService) {
+    public MenuGroupEventListener(MenuGroupService menuGroupService, ValidationMemo validationMemo) {
         this.menuGroupService = menuGroupService;
+        this.validationMemo = validationMemo;
     }
 
     @EventListener
     public void validateMenuGroupExists(ValidateMenuGroupExistsEvent event) {
-        menuGroupService.validateMenuGroupExists(event.getMenuGroupId());
+        Long menuGroupId = event.getMenuGroupId();
+        validationMemo.validateOnce(MENU_GROUP_EXISTS, menuGroupId,
+                () -> menuGroupService.validateMenuGroupExists(menuGroupId));
     }
 }
@@ -1,6 +1,9 @@
 package kitchenpos.eventlistener;
 
+import java.util.List;
+import kitchenpos.event.OrderChangedEvent;
 import kitchenpos.event.ValidateAllOrderCompletedEvent;
+import kitchenpos.event.ValidateAllOrderCompletedInTablesEvent;
 import kitchenpos.service.OrderService;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -8,14 +11,35 @@ import org.springframework.stereotype.Component;
 @Component
 public class OrderEventListener {
 
+    private static final String ORDERS_COMPLETED = "ordersCompleted";
+
     private final OrderService orderService;
+    private final ValidationMemo validationMemo;
 
-    public OrderEventListener(OrderService orderService) {
+    public OrderEventListener(OrderService orderService, ValidationMemo validationMemo) {
         this.orderService = orderService;
+        this.validationMemo = validationMemo;
     }
 
     @EventListener
     public void validateOrdersCompleted(ValidateAllOrderCompletedEvent event) {
-        orderService.validateOrdersCompleted(event.getOrderTableId());
+        Long orderTableId = event.getOrderTableId();
+        validationMemo.validateOnce(ORDERS_COMPLETED, orderTableId,
+                () -> orderService.validateOrdersCompleted(orderTableId));
+    }
+
+    @EventListener
+    public void validateOrdersCompletedInTables(ValidateAllOrderCompletedInTablesEvent event) {
+        List<Long> orderTableIds = validationMemo.filterNotValidated(ORDERS_COMPLETED, event.getOrderTableIds());
+        if (orderTableIds.isEmpty()) {
+            return;
+        }
+        orderService.validateOrdersCompleted(orderTableIds);
+        validationMemo.markValidated(ORDERS_COMPLETED, orderTableIds);
+    }
+
+    @EventListener
+    public void forgetOrdersCompleted(OrderChangedEvent event) {
+        validationMemo.forget(ORDERS_COMPLETED, event.getOrder().getOrderTableId());
     }
 }
@@ -28,6 +28,6 @@ public class OrderTableEventListener {
 
     @EventListener
     public void groupOrderTables(GroupOrderTablesEvent event) {
-        tableService.groupOrderTables(event.getTableGroupId(), event.getOrderTableIds());
+        tableService.groupLoadedOrderTables(event.getTableGroupId(), event.getOrderTables());
     }
 }
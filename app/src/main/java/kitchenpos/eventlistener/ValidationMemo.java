@@ -0,0 +1,69 @@
+package kitchenpos.eventlistener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ValidationMemo {
+
+    public void validateOnce(String validation, Object argument, Runnable validator) {
+        Set<Object> validated = findValidated(validation);
+        if (validated.contains(argument)) {
+            return;
+        }
+        validator.run();
+        validated.add(argument);
+    }
+
+    public <T> List<T> filterNotValidated(String validation, Collection<T> arguments) {
+        Set<Object> validated = findValidated(validation);
+        return arguments.stream()
+                .distinct()
+                .filter(each -> !validated.contains(each))
+                .collect(Collectors.toList());
+    }
+
+    public void markValidated(String validation, Collection<?> arguments) {
+        findValidated(validation).addAll(arguments);
+    }
+
+    public void forget(String validation, Object argument) {
+        findValidated(validation).remove(argument);
+    }
+
+    private Set<Object> findValidated(String validation) {
+        Map<String, Set<Object>> memo = findMemo();
+        if (memo == null) {
+            return new HashSet<>();
+        }
+        return memo.computeIfAbsent(validation, key -> new HashSet<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Set<Object>> findMemo() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<String, Set<Object>> memo = (Map<String, Set<Object>>) TransactionSynchronizationManager.getResource(this);
+        if (memo != null) {
+            return memo;
+        }
+        Map<String, Set<Object>> created = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ValidationMemo.this);
+            }
+        });
+        return created;
+    }
+}
@@ -0,0 +1,18 @@
+package kitchenpos.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+
+@Configuration
+public class EventDispatchMonitoringConfiguration {
+
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    public static InstrumentedApplicationEventMulticaster applicationEventMulticaster(
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new InstrumentedApplicationEventMulticaster(meterRegistry);
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class EventDispatchTrace implements AutoCloseable {
+
+    private final String name;
+    private final Consumer<EventDispatchTrace> onClose;
+    private final List<EventDispatchTraceEntry> entries = new ArrayList<>();
+    private int depth;
+    private boolean closed;
+
+    EventDispatchTrace(String name, Consumer<EventDispatchTrace> onClose) {
+        this.name = name;
+        this.onClose = onClose;
+    }
+
+    EventDispatchTraceEntry enter(String event, String listener) {
+        EventDispatchTraceEntry entry = new EventDispatchTraceEntry(depth++, event, listener);
+        entries.add(entry);
+        return entry;
+    }
+
+    void exit(EventDispatchTraceEntry entry, long elapsedNanos, long statementCount) {
+        entry.complete(elapsedNanos, statementCount);
+        depth--;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        onClose.accept(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<EventDispatchTraceEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public String format() {
+        return entries.stream()
+                .map(EventDispatchTraceEntry::toString)
+                .collect(Collectors.joining(System.lineSeparator(), name + System.lineSeparator(), ""));
+    }
+}
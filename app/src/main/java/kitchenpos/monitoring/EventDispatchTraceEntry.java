@@ -0,0 +1,49 @@
+package kitchenpos.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+public class EventDispatchTraceEntry {
+
+    private final int depth;
+    private final String event;
+    private final String listener;
+    private long elapsedNanos;
+    private long statementCount;
+
+    EventDispatchTraceEntry(int depth, String event, String listener) {
+        this.depth = depth;
+        this.event = event;
+        this.listener = listener;
+    }
+
+    void complete(long elapsedNanos, long statementCount) {
+        this.elapsedNanos = elapsedNanos;
+        this.statementCount = statementCount;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public String getListener() {
+        return listener;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    @Override
+    public String toString() {
+        return "  ".repeat(depth) + event + " -> " + listener
+                + " (" + TimeUnit.NANOSECONDS.toMicros(elapsedNanos) + "us, " + statementCount + " sql)";
+    }
+}
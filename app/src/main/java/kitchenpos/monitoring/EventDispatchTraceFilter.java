@@ -0,0 +1,43 @@
+package kitchenpos.monitoring;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+public class EventDispatchTraceFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(EventDispatchTraceFilter.class);
+
+    private final boolean enabled;
+
+    public EventDispatchTraceFilter(@Value("${kitchenpos.event-trace.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EventDispatchTrace trace = EventDispatchTracer.start(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            trace.close();
+            if (!trace.getEntries().isEmpty()) {
+                log.info("event dispatch trace{}{}", System.lineSeparator(), trace.format());
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.monitoring;
+
+public final class EventDispatchTracer {
+
+    private static final ThreadLocal<EventDispatchTrace> CURRENT = new ThreadLocal<>();
+
+    private EventDispatchTracer() {
+    }
+
+    public static EventDispatchTrace start(String name) {
+        EventDispatchTrace previous = CURRENT.get();
+        EventDispatchTrace trace = new EventDispatchTrace(name, closed -> restore(previous));
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static EventDispatchTrace current() {
+        return CURRENT.get();
+    }
+
+    private static void restore(EventDispatchTrace previous) {
+        if (previous == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(previous);
+    }
+}
@@ -0,0 +1,99 @@
+package kitchenpos.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.ResolvableType;
+
+public class InstrumentedApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    private static final String DOMAIN_PACKAGE = "kitchenpos.";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public InstrumentedApplicationEventMulticaster(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, ResolvableType eventType) {
+        String eventName = findDomainEventName(event);
+        if (eventName == null) {
+            super.multicastEvent(event, eventType);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            super.multicastEvent(event, eventType);
+        } finally {
+            record("kitchenpos.events.dispatch", System.nanoTime() - startedAt, "event", eventName);
+        }
+    }
+
+    @Override
+    protected void invokeListener(ApplicationListener<?> listener, ApplicationEvent event) {
+        String eventName = findDomainEventName(event);
+        if (eventName == null) {
+            super.invokeListener(listener, event);
+            return;
+        }
+
+        String listenerName = findListenerName(listener);
+        EventDispatchTrace trace = EventDispatchTracer.current();
+        EventDispatchTraceEntry entry = trace == null ? null : trace.enter(eventName, listenerName);
+        SqlStatementScope scope = SqlStatementRecorder.start(listenerName);
+        long startedAt = System.nanoTime();
+        try {
+            super.invokeListener(listener, event);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            scope.close();
+            if (entry != null) {
+                trace.exit(entry, elapsedNanos, scope.getStatementCount());
+            }
+            record("kitchenpos.events.listener", elapsedNanos, "event", eventName, "listener", listenerName);
+        }
+    }
+
+    private String findDomainEventName(ApplicationEvent event) {
+        Object payload = event;
+        if (event instanceof PayloadApplicationEvent) {
+            payload = ((PayloadApplicationEvent<?>) event).getPayload();
+        }
+        Class<?> payloadType = payload.getClass();
+        if (!payloadType.getName().startsWith(DOMAIN_PACKAGE)) {
+            return null;
+        }
+        return payloadType.getSimpleName();
+    }
+
+    private String findListenerName(ApplicationListener<?> listener) {
+        if (!(listener instanceof SmartApplicationListener)) {
+            return listener.getClass().getSimpleName();
+        }
+        String listenerId = ((SmartApplicationListener) listener).getListenerId();
+        int parameterStart = listenerId.indexOf('(');
+        String methodName = parameterStart < 0 ? listenerId : listenerId.substring(0, parameterStart);
+        int methodStart = methodName.lastIndexOf('.');
+        int classStart = methodName.lastIndexOf('.', methodStart - 1);
+        return methodName.substring(classStart + 1);
+    }
+
+    private void record(String name, long elapsedNanos, String... tags) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Timer.builder(name)
+                .tags(tags)
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
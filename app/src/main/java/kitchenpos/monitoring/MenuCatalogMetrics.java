@@ -0,0 +1,39 @@
+package kitchenpos.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.service.MenuCatalog;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MenuCatalogMetrics implements MeterBinder {
+
+    private final MenuCatalog menuCatalog;
+
+    public MenuCatalogMetrics(MenuCatalog menuCatalog) {
+        this.menuCatalog = menuCatalog;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("kitchenpos.menu.catalog.requests", menuCatalog, MenuCatalog::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("kitchenpos.menu.catalog.requests", menuCatalog, MenuCatalog::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionTimer.builder("kitchenpos.menu.catalog.rebuilds", menuCatalog,
+                        MenuCatalog::getRebuildCount, MenuCatalog::getTotalRebuildNanos, TimeUnit.NANOSECONDS)
+                .register(registry);
+        TimeGauge.builder("kitchenpos.menu.catalog.rebuilds.last", menuCatalog, TimeUnit.NANOSECONDS,
+                        MenuCatalog::getLastRebuildNanos)
+                .register(registry);
+        Gauge.builder("kitchenpos.menu.catalog.size", menuCatalog, MenuCatalog::getMenuCount)
+                .register(registry);
+    }
+}
@@ -0,0 +1,64 @@
+package kitchenpos.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderStatusMetrics implements MeterBinder {
+
+    private static final List<OrderStatus> ACTIVE_ORDER_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(each -> !each.isCompleted())
+            .collect(Collectors.toList());
+
+    private final OrderRepository orderRepository;
+    private final long cacheNanos;
+    private Map<OrderStatus, Long> activeOrderCounts = new EnumMap<>(OrderStatus.class);
+    private long refreshedAt;
+    private boolean refreshed;
+
+    public OrderStatusMetrics(
+            OrderRepository orderRepository,
+            @Value("${kitchenpos.metrics.order-status.cache-millis:10000}") long cacheMillis
+    ) {
+        this.orderRepository = orderRepository;
+        this.cacheNanos = TimeUnit.MILLISECONDS.toNanos(cacheMillis);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (OrderStatus orderStatus : ACTIVE_ORDER_STATUSES) {
+            Gauge.builder("kitchenpos.orders.active", this, each -> each.countActiveOrders(orderStatus))
+                    .tag("status", orderStatus.name())
+                    .register(registry);
+        }
+    }
+
+    private synchronized long countActiveOrders(OrderStatus orderStatus) {
+        long now = System.nanoTime();
+        if (!refreshed || now - refreshedAt >= cacheNanos) {
+            activeOrderCounts = loadActiveOrderCounts();
+            refreshedAt = now;
+            refreshed = true;
+        }
+        return activeOrderCounts.getOrDefault(orderStatus, 0L);
+    }
+
+    private Map<OrderStatus, Long> loadActiveOrderCounts() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (Object[] row : orderRepository.countGroupByOrderStatusIn(ACTIVE_ORDER_STATUSES)) {
+            counts.put((OrderStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,79 @@
+package kitchenpos.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ServiceOperationAspect {
+
+    private static final String SCOPE_TYPE = "service";
+    private static final String DOMAIN_PACKAGE = "kitchenpos.";
+    private static final String NO_EXCEPTION = "none";
+
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    public ServiceOperationAspect(MeterRegistry meterRegistry, SqlStatementMetrics sqlStatementMetrics) {
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Signature signature = joinPoint.getSignature();
+        String className = signature.getDeclaringType().getSimpleName();
+        String name = className + "." + signature.getName();
+
+        int[] currentDepth = depth.get();
+        currentDepth[0]++;
+        SqlStatementScope scope = SqlStatementRecorder.start(name);
+        long startedAt = System.nanoTime();
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            if (currentDepth[0] == 1) {
+                countDomainException(name, e);
+            }
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            currentDepth[0]--;
+            scope.close();
+
+            recordLatency(className, signature.getName(), exception, elapsedNanos);
+            sqlStatementMetrics.record(SCOPE_TYPE, name, scope);
+        }
+    }
+
+    private void recordLatency(String className, String method, String exception, long elapsedNanos) {
+        Timer.builder("kitchenpos.service")
+                .tag("class", className)
+                .tag("method", method)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void countDomainException(String operation, Throwable e) {
+        if (!e.getClass().getName().startsWith(DOMAIN_PACKAGE)) {
+            return;
+        }
+        Counter.builder("kitchenpos.exceptions")
+                .tag("exception", e.getClass().getSimpleName())
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.monitoring;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+
+    private static final String SCOPE_TYPE = "request";
+    private static final String UNKNOWN_PATTERN = "UNKNOWN";
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+    private final boolean responseHeadersEnabled;
+
+    public SqlStatementCountingFilter(
+            SqlStatementMetrics sqlStatementMetrics,
+            @Value("${kitchenpos.sql-monitor.response-headers:false}") boolean responseHeadersEnabled
+    ) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+        this.responseHeadersEnabled = responseHeadersEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementScope scope = SqlStatementRecorder.start(request.getMethod() + " " + request.getRequestURI());
+        try {
+            if (!responseHeadersEnabled) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            SqlStatementHeaderResponseWrapper wrapper = new SqlStatementHeaderResponseWrapper(response, scope);
+            filterChain.doFilter(request, wrapper);
+            wrapper.writeHeaders();
+        } finally {
+            scope.close();
+            sqlStatementMetrics.record(SCOPE_TYPE, request.getMethod() + " " + findPattern(request), scope);
+        }
+    }
+
+    private String findPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return UNKNOWN_PATTERN;
+        }
+        return pattern.toString();
+    }
+}
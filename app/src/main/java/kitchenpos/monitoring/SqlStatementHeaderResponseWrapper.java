@@ -0,0 +1,62 @@
+package kitchenpos.monitoring;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+public class SqlStatementHeaderResponseWrapper extends HttpServletResponseWrapper {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String ELAPSED_MILLIS_HEADER = "X-Sql-Elapsed-Millis";
+    public static final String MAX_REPEATED_COUNT_HEADER = "X-Sql-Max-Repeated-Count";
+
+    private final SqlStatementScope scope;
+    private boolean headersWritten;
+
+    public SqlStatementHeaderResponseWrapper(HttpServletResponse response, SqlStatementScope scope) {
+        super(response);
+        this.scope = scope;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        writeHeaders();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        writeHeaders();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeHeaders();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        writeHeaders();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        writeHeaders();
+        super.sendError(sc, msg);
+    }
+
+    public void writeHeaders() {
+        if (headersWritten || isCommitted()) {
+            return;
+        }
+        headersWritten = true;
+        setHeader(STATEMENT_COUNT_HEADER, String.valueOf(scope.getStatementCount()));
+        setHeader(ELAPSED_MILLIS_HEADER, String.valueOf(scope.getElapsedMillis()));
+        setHeader(MAX_REPEATED_COUNT_HEADER, String.valueOf(scope.getMaxRepeatedCount()));
+    }
+}
@@ -0,0 +1,25 @@
+package kitchenpos.monitoring;
+
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = "kitchenpos.sql.startedAt";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        long elapsedNanos = startedAt == null ? 0L : System.nanoTime() - startedAt;
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+
+        SqlStatementRecorder.record(sql, elapsedNanos);
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlStatementMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatementMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${kitchenpos.sql-monitor.repeated-statement-threshold:10}") int repeatedStatementThreshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    public void record(String scopeType, String name, SqlStatementScope scope) {
+        DistributionSummary.builder("kitchenpos.sql.statements")
+                .tag("scope", scopeType)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(scope.getStatementCount());
+        Timer.builder("kitchenpos.sql.time")
+                .tag("scope", scopeType)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(scope.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (isRepeated(scope)) {
+            Counter.builder("kitchenpos.sql.repeated")
+                    .tag("scope", scopeType)
+                    .tag("name", name)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} executed the same statement {} times: {}", scopeType, scope.getName(),
+                    scope.getMaxRepeatedCount(), scope.getMostRepeatedStatement());
+        }
+    }
+
+    public boolean isRepeated(SqlStatementScope scope) {
+        return scope.getMaxRepeatedCount() >= repeatedStatementThreshold;
+    }
+}
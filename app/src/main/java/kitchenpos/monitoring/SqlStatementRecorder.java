@@ -0,0 +1,32 @@
+package kitchenpos.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Deque<SqlStatementScope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlStatementRecorder() {
+    }
+
+    public static SqlStatementScope start(String name) {
+        SqlStatementScope scope = new SqlStatementScope(name, SqlStatementRecorder::finish);
+        SCOPES.get().push(scope);
+        return scope;
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        for (SqlStatementScope scope : SCOPES.get()) {
+            scope.record(sql, elapsedNanos);
+        }
+    }
+
+    private static void finish(SqlStatementScope scope) {
+        Deque<SqlStatementScope> scopes = SCOPES.get();
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package kitchenpos.monitoring;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class SqlStatementScope implements AutoCloseable {
+
+    private final String name;
+    private final Consumer<SqlStatementScope> onClose;
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+    private long statementCount;
+    private long elapsedNanos;
+    private String mostRepeatedStatement;
+    private int maxRepeatedCount;
+    private boolean closed;
+
+    SqlStatementScope(String name, Consumer<SqlStatementScope> onClose) {
+        this.name = name;
+        this.onClose = onClose;
+    }
+
+    void record(String sql, long elapsedNanos) {
+        this.statementCount++;
+        this.elapsedNanos += elapsedNanos;
+
+        int repeatedCount = countsBySql.merge(sql, 1, Integer::sum);
+        if (repeatedCount > maxRepeatedCount) {
+            maxRepeatedCount = repeatedCount;
+            mostRepeatedStatement = sql;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        onClose.accept(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public long getStatementCount(Predicate<String> filter) {
+        return countsBySql.entrySet()
+                .stream()
+                .filter(each -> filter.test(each.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public int getMaxRepeatedCount() {
+        return maxRepeatedCount;
+    }
+
+    public String getMostRepeatedStatement() {
+        return mostRepeatedStatement;
+    }
+
+    public Set<String> getStatements() {
+        return Collections.unmodifiableSet(countsBySql.keySet());
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.query;
+
+import java.util.List;
+import java.util.Set;
+import kitchenpos.service.ExistingMenuQuery;
+import kitchenpos.service.MenuService;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MenuServiceExistingMenuQuery implements ExistingMenuQuery {
+
+    private final MenuService menuService;
+
+    public MenuServiceExistingMenuQuery(MenuService menuService) {
+        this.menuService = menuService;
+    }
+
+    @Override
+    public Set<Long> findExistingMenuIds(List<Long> menuIds) {
+        return menuService.findExistingMenuIds(menuIds);
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.query;
+
+import java.util.List;
+import java.util.Map;
+import kitchenpos.service.OrderTableEmptinessQuery;
+import kitchenpos.service.TableService;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TableServiceOrderTableEmptinessQuery implements OrderTableEmptinessQuery {
+
+    private final TableService tableService;
+
+    public TableServiceOrderTableEmptinessQuery(TableService tableService) {
+        this.tableService = tableService;
+    }
+
+    @Override
+    public Map<Long, Boolean> findEmptinessByIds(List<Long> orderTableIds) {
+        return tableService.findEmptinessByIds(orderTableIds);
+    }
+}
@@ -0,0 +1,17 @@
+alter table menu alter column id drop identity;
+alter table menu_group alter column id drop identity;
+alter table menu_product alter column seq drop identity;
+alter table order_line_item alter column seq drop identity;
+alter table orders alter column id drop identity;
+alter table order_table alter column id drop identity;
+alter table product alter column id drop identity;
+alter table table_group alter column id drop identity;
+
+alter table menu alter column id set default next value for menu_seq;
+alter table menu_group alter column id set default next value for menu_group_seq;
+alter table menu_product alter column seq set default next value for menu_product_seq;
+alter table order_line_item alter column seq set default next value for order_line_item_seq;
+alter table orders alter column id set default next value for orders_seq;
+alter table order_table alter column id set default next value for order_table_seq;
+alter table product alter column id set default next value for product_seq;
+alter table table_group alter column id set default next value for table_group_seq;
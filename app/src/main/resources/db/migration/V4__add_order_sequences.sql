@@ -0,0 +1,5 @@
+create sequence orders_seq start with 1 increment by 50;
+create sequence order_line_item_seq start with 1 increment by 50;
+
+alter sequence orders_seq restart with (select coalesce(max(id), 0) + 1 from orders);
+alter sequence order_line_item_seq restart with (select coalesce(max(seq), 0) + 1 from order_line_item);
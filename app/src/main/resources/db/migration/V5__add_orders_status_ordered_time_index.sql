@@ -0,0 +1 @@
+create index ix_orders_order_status_ordered_time on orders (order_status, ordered_time);
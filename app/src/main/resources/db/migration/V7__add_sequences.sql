@@ -0,0 +1,13 @@
+create sequence menu_seq start with 1 increment by 50;
+create sequence menu_product_seq start with 1 increment by 50;
+create sequence menu_group_seq start with 1 increment by 50;
+create sequence product_seq start with 1 increment by 50;
+create sequence order_table_seq start with 1 increment by 50;
+create sequence table_group_seq start with 1 increment by 50;
+
+alter sequence menu_seq restart with (select coalesce(max(id), 0) + 1 from menu);
+alter sequence menu_product_seq restart with (select coalesce(max(seq), 0) + 1 from menu_product);
+alter sequence menu_group_seq restart with (select coalesce(max(id), 0) + 1 from menu_group);
+alter sequence product_seq restart with (select coalesce(max(id), 0) + 1 from product);
+alter sequence order_table_seq restart with (select coalesce(max(id), 0) + 1 from order_table);
+alter sequence table_group_seq restart with (select coalesce(max(id), 0) + 1 from table_group);
@@ -0,0 +1,26 @@
+create table orders_archive
+(
+    id             bigint       not null,
+    order_status   varchar(255) not null,
+    ordered_time   datetime     not null,
+    order_table_id bigint       not null,
+    archived_time  datetime     not null,
+    primary key (id)
+);
+
+create table order_line_item_archive
+(
+    seq      bigint not null,
+    quantity bigint not null,
+    menu_id  bigint not null,
+    order_id bigint not null,
+    primary key (seq)
+);
+
+alter table order_line_item_archive
+    add constraint fk_order_line_item_archive_to_orders_archive
+        foreign key (order_id)
+            references orders_archive (id);
+
+create index ix_orders_archive_order_table_id on orders_archive (order_table_id);
+create index ix_orders_archive_ordered_time on orders_archive (ordered_time);
@@ -0,0 +1,10 @@
+create table order_idempotency_key
+(
+    idempotency_key varchar(255) not null,
+    request_hash    varchar(64)  not null,
+    order_id        bigint,
+    created_time    datetime     not null,
+    primary key (idempotency_key)
+);
+
+create index ix_order_idempotency_key_created_time on order_idempotency_key (created_time);
@@ -0,0 +1,68 @@
+package kitchenpos.benchmark;
+
+public class BenchmarkSettings {
+
+    private static final String PREFIX = "benchmark.";
+
+    private final int threads;
+    private final int warmupOperations;
+    private final int operations;
+    private final int tables;
+    private final int menus;
+    private final int historicalOrders;
+
+    private BenchmarkSettings(int threads, int warmupOperations, int operations, int tables, int menus,
+            int historicalOrders) {
+        this.threads = threads;
+        this.warmupOperations = warmupOperations;
+        this.operations = operations;
+        this.tables = tables;
+        this.menus = menus;
+        this.historicalOrders = historicalOrders;
+    }
+
+    public static BenchmarkSettings fromSystemProperties() {
+        return new BenchmarkSettings(
+                Integer.getInteger(PREFIX + "threads", 4),
+                Integer.getInteger(PREFIX + "warmup-operations", 200),
+                Integer.getInteger(PREFIX + "operations", 2_000),
+                Integer.getInteger(PREFIX + "tables", 100),
+                Integer.getInteger(PREFIX + "menus", 50),
+                Integer.getInteger(PREFIX + "historical-orders", 100_000)
+        );
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getWarmupOperations() {
+        return warmupOperations;
+    }
+
+    public int getOperations() {
+        return operations;
+    }
+
+    public int getTotalOperations() {
+        return warmupOperations + operations;
+    }
+
+    public int getTables() {
+        return tables;
+    }
+
+    public int getMenus() {
+        return menus;
+    }
+
+    public int getHistoricalOrders() {
+        return historicalOrders;
+    }
+
+    @Override
+    public String toString() {
+        return "threads=" + threads + ", warmupOperations=" + warmupOperations + ", operations=" + operations
+                + ", tables=" + tables + ", menus=" + menus + ", historicalOrders=" + historicalOrders;
+    }
+}
@@ -0,0 +1,71 @@
+package kitchenpos.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.hibernate.stat.Statistics;
+
+public class ConcurrentBenchmarkRunner {
+
+    private final int threads;
+    private final Statistics statistics;
+
+    public ConcurrentBenchmarkRunner(int threads, Statistics statistics) {
+        this.threads = threads;
+        this.statistics = statistics;
+    }
+
+    public ServiceBenchmarkResult run(String name, int warmupOperations, int operations, IntConsumer operation) {
+        execute(warmupOperations, operation);
+
+        long statementCountBefore = statistics.getPrepareStatementCount();
+        long startedAt = System.nanoTime();
+        long[] elapsedNanos = execute(operations, index -> operation.accept(warmupOperations + index));
+        long totalElapsedNanos = System.nanoTime() - startedAt;
+        long statementCount = statistics.getPrepareStatementCount() - statementCountBefore;
+
+        return new ServiceBenchmarkResult(name, threads, LatencyMeasurement.of(elapsedNanos), totalElapsedNanos,
+                statementCount);
+    }
+
+    private long[] execute(int operations, IntConsumer operation) {
+        long[] elapsedNanos = new long[operations];
+        AtomicInteger nextIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    int index;
+                    while ((index = nextIndex.getAndIncrement()) < operations) {
+                        long startedAt = System.nanoTime();
+                        operation.accept(index);
+                        elapsedNanos[index] = System.nanoTime() - startedAt;
+                    }
+                }));
+            }
+            awaitAll(workers);
+        } finally {
+            executor.shutdownNow();
+        }
+        return elapsedNanos;
+    }
+
+    private void awaitAll(List<Future<?>> workers) {
+        try {
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
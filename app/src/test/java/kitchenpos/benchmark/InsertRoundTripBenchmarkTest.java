@@ -0,0 +1,101 @@
+package kitchenpos.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import kitchenpos.dto.request.CreateMenuRequest;
+import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.MenuProductRequest;
+import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.fixture.ProductFixture;
+import kitchenpos.monitoring.SqlStatementScope;
+import kitchenpos.supports.IntegrationTestContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+class InsertRoundTripBenchmarkTest extends IntegrationTestContext {
+
+    private static final int ORDER_LINE_ITEM_COUNT = 20;
+    private static final int MENU_PRODUCT_COUNT = 15;
+    private static final int ROW_BY_ROW_BATCH_SIZE = 1;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 200;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 주문_항목을_묶어서_저장하면_왕복_횟수가_줄어든다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+        List<OrderLineItemRequest> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < ORDER_LINE_ITEM_COUNT; i++) {
+            Menu menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name" + i, BigDecimal.valueOf(1000L)));
+            orderLineItems.add(new OrderLineItemRequest(menu.getId(), 1L));
+        }
+        CreateOrderRequest request = new CreateOrderRequest(orderTable.getId(), orderLineItems);
+
+        // when, then
+        왕복_횟수와_지연_시간을_비교한다("order with " + ORDER_LINE_ITEM_COUNT + " line items",
+                () -> orderService.create(request));
+    }
+
+    @Test
+    void 메뉴_상품을_묶어서_저장하면_왕복_횟수가_줄어든다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        List<MenuProductRequest> menuProducts = new ArrayList<>();
+        for (int i = 0; i < MENU_PRODUCT_COUNT; i++) {
+            Product product = productRepository.save(ProductFixture.of("name" + i, BigDecimal.valueOf(1000L)));
+            menuProducts.add(new MenuProductRequest(product.getId(), 1L));
+        }
+        CreateMenuRequest request = new CreateMenuRequest("name", BigDecimal.valueOf(1000L), menuGroup.getId(),
+                menuProducts);
+
+        // when, then
+        왕복_횟수와_지연_시간을_비교한다("menu with " + MENU_PRODUCT_COUNT + " products",
+                () -> menuService.create(request));
+    }
+
+    private void 왕복_횟수와_지연_시간을_비교한다(String name, Runnable operation) {
+        Runnable rowByRow = () -> 배치_크기를_지정해_실행한다(ROW_BY_ROW_BATCH_SIZE, operation);
+        Runnable batched = () -> 배치_크기를_지정해_실행한다(null, operation);
+
+        LatencyMeasurement rowByRowLatency = LatencyMeasurement.measure(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS,
+                rowByRow);
+        LatencyMeasurement batchedLatency = LatencyMeasurement.measure(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS,
+                batched);
+        SqlStatementScope rowByRowStatements = SQL_실행을_기록한다(rowByRow);
+        SqlStatementScope batchedStatements = SQL_실행을_기록한다(batched);
+
+        rowByRowLatency.print(name + ", row by row, statements/op: " + rowByRowStatements.getStatementCount());
+        batchedLatency.print(name + ", batched, statements/op: " + batchedStatements.getStatementCount());
+        assertThat(batchedStatements.getStatementCount()).isLessThan(rowByRowStatements.getStatementCount());
+    }
+
+    private void 배치_크기를_지정해_실행한다(Integer jdbcBatchSize, Runnable operation) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            operation.run();
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package kitchenpos.benchmark;
+
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LatencyMeasurement {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyMeasurement.class);
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final long[] sortedNanos;
+
+    private LatencyMeasurement(long[] sortedNanos) {
+        this.sortedNanos = sortedNanos;
+    }
+
+    public static LatencyMeasurement measure(int warmupIterations, int measurementIterations, Runnable operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            operation.run();
+        }
+        long[] elapsedNanos = new long[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            long startedAt = System.nanoTime();
+            operation.run();
+            elapsedNanos[i] = System.nanoTime() - startedAt;
+        }
+        return of(elapsedNanos);
+    }
+
+    public static LatencyMeasurement of(long[] elapsedNanos) {
+        long[] sortedNanos = Arrays.copyOf(elapsedNanos, elapsedNanos.length);
+        Arrays.sort(sortedNanos);
+        return new LatencyMeasurement(sortedNanos);
+    }
+
+    public long percentile(double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)];
+    }
+
+    public void print(String name) {
+        log.info("[{}] iterations: {}, p50: {} ms, p99: {} ms, p99.9: {} ms, max: {} ms",
+                name, sortedNanos.length,
+                toMillis(percentile(50)),
+                toMillis(percentile(99)),
+                toMillis(percentile(99.9)),
+                toMillis(max()));
+    }
+
+    public static double toMillis(long nanos) {
+        return Math.round(nanos / NANOS_PER_MICRO) / MICROS_PER_MILLI;
+    }
+
+    public long max() {
+        return sortedNanos[sortedNanos.length - 1];
+    }
+
+    public int count() {
+        return sortedNanos.length;
+    }
+}
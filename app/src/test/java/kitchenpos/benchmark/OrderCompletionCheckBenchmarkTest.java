@@ -0,0 +1,66 @@
+package kitchenpos.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.supports.IntegrationTestContext;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+class OrderCompletionCheckBenchmarkTest extends IntegrationTestContext {
+
+    private static final int COMPLETED_ORDER_COUNT = 10_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 주문을_불러오지_않고_완료되지_않은_주문이_있는지_확인한다() {
+        // given
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+        orderTableRepository.save(orderTable);
+        완료된_주문을_생성한다(orderTable.getId());
+
+        // when
+        LatencyMeasurement loadingAll = LatencyMeasurement.measure(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS,
+                () -> 모든_주문을_불러와_확인한다(orderTable.getId()));
+        LatencyMeasurement existence = LatencyMeasurement.measure(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS,
+                () -> orderService.validateOrdersCompleted(orderTable.getId()));
+
+        // then
+        loadingAll.print("load every order, completed orders: " + COMPLETED_ORDER_COUNT);
+        existence.print("exists query, completed orders: " + COMPLETED_ORDER_COUNT);
+        assertThat(existence.percentile(50)).isLessThan(loadingAll.percentile(50));
+    }
+
+    private void 모든_주문을_불러와_확인한다(Long orderTableId) {
+        transactionTemplate.executeWithoutResult(status -> orderRepository.findByOrderTableId(orderTableId)
+                .forEach(Order::validateOrderIsCompleted));
+    }
+
+    private void 완료된_주문을_생성한다(Long orderTableId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> orders = new ArrayList<>();
+        for (long orderId = 1; orderId <= COMPLETED_ORDER_COUNT; orderId++) {
+            orders.add(new Object[]{orderId, "COMPLETION", Timestamp.valueOf(now.minusMinutes(orderId)), orderTableId});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into orders (id, order_status, ordered_time, order_table_id) values (?, ?, ?, ?)", orders);
+        jdbcTemplate.execute("alter sequence orders_seq restart with " + (COMPLETED_ORDER_COUNT + 1));
+    }
+}
@@ -0,0 +1,101 @@
+package kitchenpos.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.supports.IntegrationTestContext;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+class OrderStatusQueryBenchmarkTest extends IntegrationTestContext {
+
+    private static final int COMPLETED_ORDER_COUNT = 1_000_000;
+    private static final int ACTIVE_ORDER_COUNT = 200;
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 100;
+    private static final List<String> ACTIVE_ORDER_STATUSES = List.of("COOKING", "MEAL");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 완료된_주문이_백만_건_있어도_상태별_조회는_인덱스로_필요한_행만_읽는다() {
+        // given
+        주문을_생성한다();
+
+        // when
+        LatencyMeasurement indexed = LatencyMeasurement.measure(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS,
+                () -> orderService.findAllByOrderStatus(ACTIVE_ORDER_STATUSES, null));
+
+        jdbcTemplate.execute("drop index ix_orders_order_status_ordered_time");
+        LatencyMeasurement unindexed;
+        try {
+            unindexed = LatencyMeasurement.measure(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS,
+                    () -> orderService.findAllByOrderStatus(ACTIVE_ORDER_STATUSES, null));
+        } finally {
+            jdbcTemplate.execute(
+                    "create index ix_orders_order_status_ordered_time on orders (order_status, ordered_time)");
+        }
+
+        // then
+        indexed.print("status query with index, completed orders: " + COMPLETED_ORDER_COUNT);
+        unindexed.print("status query without index, completed orders: " + COMPLETED_ORDER_COUNT);
+        assertThat(orderService.findAllByOrderStatus(ACTIVE_ORDER_STATUSES, null)).hasSize(ACTIVE_ORDER_COUNT);
+        assertThat(indexed.percentile(50)).isLessThan(unindexed.percentile(50));
+    }
+
+    private void 주문을_생성한다() {
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        menuGroupRepository.save(menuGroup);
+
+        Menu menu = MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L));
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+        menuRepository.save(menu);
+        orderTableRepository.save(orderTable);
+
+        LocalDateTime now = LocalDateTime.now();
+        long orderId = 0;
+        for (int inserted = 0; inserted < COMPLETED_ORDER_COUNT; inserted += SEED_BATCH_SIZE) {
+            List<Object[]> orders = new ArrayList<>();
+            for (int i = 0; i < SEED_BATCH_SIZE; i++) {
+                orders.add(new Object[]{++orderId, "COMPLETION", Timestamp.valueOf(now.minusMinutes(orderId)),
+                        orderTable.getId()});
+            }
+            주문을_저장한다(orders);
+        }
+
+        List<Object[]> activeOrders = new ArrayList<>();
+        List<Object[]> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < ACTIVE_ORDER_COUNT; i++) {
+            String orderStatus = ACTIVE_ORDER_STATUSES.get(i % ACTIVE_ORDER_STATUSES.size());
+            activeOrders.add(new Object[]{++orderId, orderStatus, Timestamp.valueOf(now), orderTable.getId()});
+            orderLineItems.add(new Object[]{orderId, 1L, menu.getId(), orderId});
+        }
+        주문을_저장한다(activeOrders);
+        jdbcTemplate.batchUpdate("insert into order_line_item (seq, quantity, menu_id, order_id) values (?, ?, ?, ?)",
+                orderLineItems);
+
+        jdbcTemplate.execute("alter sequence orders_seq restart with " + (orderId + 1));
+        jdbcTemplate.execute("alter sequence order_line_item_seq restart with " + (orderId + 1));
+    }
+
+    private void 주문을_저장한다(List<Object[]> orders) {
+        jdbcTemplate.batchUpdate(
+                "insert into orders (id, order_status, ordered_time, order_table_id) values (?, ?, ?, ?)", orders);
+    }
+}
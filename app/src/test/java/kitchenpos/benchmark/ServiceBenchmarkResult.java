@@ -0,0 +1,48 @@
+package kitchenpos.benchmark;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ServiceBenchmarkResult {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceBenchmarkResult.class);
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final String name;
+    private final int threads;
+    private final LatencyMeasurement latency;
+    private final long elapsedNanos;
+    private final long statementCount;
+
+    public ServiceBenchmarkResult(String name, int threads, LatencyMeasurement latency, long elapsedNanos,
+            long statementCount) {
+        this.name = name;
+        this.threads = threads;
+        this.latency = latency;
+        this.elapsedNanos = elapsedNanos;
+        this.statementCount = statementCount;
+    }
+
+    public double throughput() {
+        return latency.count() / (elapsedNanos / NANOS_PER_SECOND);
+    }
+
+    public double statementsPerOperation() {
+        return (double) statementCount / latency.count();
+    }
+
+    public void print() {
+        log.info("[{}] threads: {}, operations: {}, throughput: {} ops/s, "
+                        + "p50: {} ms, p99: {} ms, p99.9: {} ms, max: {} ms, sql/op: {}",
+                name, threads, latency.count(), Math.round(throughput()),
+                LatencyMeasurement.toMillis(latency.percentile(50)),
+                LatencyMeasurement.toMillis(latency.percentile(99)),
+                LatencyMeasurement.toMillis(latency.percentile(99.9)),
+                LatencyMeasurement.toMillis(latency.max()),
+                Math.round(statementsPerOperation() * 100) / 100.0);
+    }
+
+    public LatencyMeasurement getLatency() {
+        return latency;
+    }
+}
@@ -0,0 +1,239 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import kitchenpos.dto.request.ChangeEmptyTableRequest;
+import kitchenpos.dto.request.ChangeOrderStatusRequest;
+import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.CreateTableGroupRequest;
+import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.dto.request.OrderTableRequest;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.fixture.ProductFixture;
+import kitchenpos.repository.MenuGroupRepository;
+import kitchenpos.repository.MenuRepository;
+import kitchenpos.repository.OrderRepository;
+import kitchenpos.repository.OrderTableRepository;
+import kitchenpos.repository.ProductRepository;
+import kitchenpos.service.MenuService;
+import kitchenpos.service.OrderService;
+import kitchenpos.service.TableGroupService;
+import kitchenpos.service.TableService;
+import kitchenpos.supports.DatabaseCleaner;
+import kitchenpos.vo.Money;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ServiceBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceBenchmarkTest.class);
+    private static final int SEED_CHUNK_SIZE = 1_000;
+
+    private final BenchmarkSettings settings = BenchmarkSettings.fromSystemProperties();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MenuService menuService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private TableService tableService;
+    @Autowired
+    private TableGroupService tableGroupService;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private ConcurrentBenchmarkRunner runner;
+    private List<Long> menuIds;
+    private List<Long> occupiedTableIds;
+    private List<Long> idleTableIds;
+    private List<Long> groupableTableIds;
+    private List<Long> cookingOrderIds;
+    private Long[] tableGroupIds;
+
+    @BeforeAll
+    void setUp() {
+        DatabaseCleaner.cleanup(applicationContext);
+        log.info("[service benchmark] {}", settings);
+
+        menuIds = 메뉴를_생성한다(settings.getMenus());
+        occupiedTableIds = 테이블을_생성한다(settings.getTables(), false);
+        idleTableIds = 테이블을_생성한다(settings.getTables(), false);
+        groupableTableIds = 테이블을_생성한다(settings.getTotalOperations() * 2, true);
+        완료된_주문을_생성한다(settings.getHistoricalOrders());
+        cookingOrderIds = 주문을_생성한다(settings.getTotalOperations(), occupiedTableIds, OrderStatus.COOKING);
+        tableGroupIds = new Long[settings.getTotalOperations()];
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        runner = new ConcurrentBenchmarkRunner(settings.getThreads(), statistics);
+    }
+
+    @AfterAll
+    void tearDown() {
+        DatabaseCleaner.cleanup(applicationContext);
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(1)
+    void 전체_메뉴_조회() {
+        실행한다("MenuService.findAll", index -> menuService.findAll());
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(2)
+    void 주문_생성() {
+        실행한다("OrderService.create", index -> orderService.create(new CreateOrderRequest(
+                occupiedTableIds.get(index % occupiedTableIds.size()),
+                List.of(new OrderLineItemRequest(menuIds.get(index % menuIds.size()), 1L)))));
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(3)
+    void 주문_상태_변경() {
+        ChangeOrderStatusRequest request = new ChangeOrderStatusRequest(OrderStatus.MEAL.name());
+        실행한다("OrderService.changeOrderStatus",
+                index -> orderService.changeOrderStatus(cookingOrderIds.get(index), request));
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(4)
+    void 빈_테이블_변경() {
+        실행한다("TableService.changeEmpty", index -> {
+            Long orderTableId = idleTableIds.get(index % idleTableIds.size());
+            boolean empty = (index / idleTableIds.size()) % 2 == 0;
+            tableService.changeEmpty(orderTableId, new ChangeEmptyTableRequest(empty));
+        });
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(5)
+    void 테이블_그룹_생성() {
+        실행한다("TableGroupService.create", index -> {
+            CreateTableGroupRequest request = new CreateTableGroupRequest(List.of(
+                    new OrderTableRequest(groupableTableIds.get(index * 2)),
+                    new OrderTableRequest(groupableTableIds.get(index * 2 + 1))));
+            tableGroupIds[index] = tableGroupService.create(request).getId();
+        });
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(6)
+    void 테이블_그룹_해제() {
+        실행한다("TableGroupService.ungroup", index -> tableGroupService.ungroup(tableGroupIds[index]));
+    }
+
+    private void 실행한다(String name, IntConsumer operation) {
+        runner.run(name, settings.getWarmupOperations(), settings.getOperations(), operation)
+                .print();
+    }
+
+    private List<Long> 메뉴를_생성한다(int menuCount) {
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("menuGroup"));
+        Product product = productRepository.save(ProductFixture.of("product", BigDecimal.valueOf(1000L)));
+
+        List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < menuCount; i++) {
+            Menu menu = MenuFixture.of(menuGroup.getId(), "menu" + i, BigDecimal.valueOf(1000L));
+            menu.setupMenuProducts(List.of(
+                    new MenuProduct(product.getId(), 1L, new Money(product.getPrice()))));
+            menus.add(menu);
+        }
+        return 나누어_저장한다(menus, menuRepository::saveAll).stream()
+                .map(Menu::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> 테이블을_생성한다(int tableCount, boolean empty) {
+        List<OrderTable> orderTables = new ArrayList<>();
+        for (int i = 0; i < tableCount; i++) {
+            orderTables.add(OrderTableFixture.of(null, empty ? 0 : 4, empty));
+        }
+        return 나누어_저장한다(orderTables, orderTableRepository::saveAll).stream()
+                .map(OrderTable::getId)
+                .collect(Collectors.toList());
+    }
+
+    private void 완료된_주문을_생성한다(int orderCount) {
+        List<Long> orderTableIds = new ArrayList<>(occupiedTableIds);
+        orderTableIds.addAll(idleTableIds);
+        주문을_생성한다(orderCount, orderTableIds, OrderStatus.COMPLETION);
+    }
+
+    private List<Long> 주문을_생성한다(int orderCount, List<Long> orderTableIds, OrderStatus orderStatus) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            Order order = OrderFixture.of(orderTableIds.get(i % orderTableIds.size()), orderStatus,
+                    LocalDateTime.now().minusMinutes(orderCount - i));
+            order.setupOrderLineItems(List.of(new OrderLineItem(menuIds.get(i % menuIds.size()), 1L)));
+            orders.add(order);
+        }
+        return 나누어_저장한다(orders, orderRepository::saveAll).stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+    }
+
+    private <T> List<T> 나누어_저장한다(List<T> entities, Function<List<T>, List<T>> saveAll) {
+        List<T> saved = new ArrayList<>();
+        for (int from = 0; from < entities.size(); from += SEED_CHUNK_SIZE) {
+            List<T> chunk = entities.subList(from, Math.min(from + SEED_CHUNK_SIZE, entities.size()));
+            saved.addAll(transactionTemplate.execute(status -> saveAll.apply(chunk)));
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,125 @@
+package kitchenpos.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SuppressWarnings("NonAsciiCharacters")
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = 데이터베이스를_생성한다("routing-primary");
+    private final DataSource replica = 데이터베이스를_생성한다("routing-replica");
+    private final ReplicaHealth replicaHealth = new ReplicaHealth();
+
+    @BeforeEach
+    void setUp() {
+        이름을_기록한다(primary, "primary");
+        이름을_기록한다(replica, "replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카로_보낸다() throws SQLException {
+        // given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, replicaHealth);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when, then
+        assertThat(연결된_데이터베이스(dataSource)).isEqualTo("replica");
+    }
+
+    @Test
+    void 읽기_전용이_아닌_트랜잭션은_프라이머리로_보낸다() throws SQLException {
+        // given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, replicaHealth);
+
+        // when, then
+        assertThat(연결된_데이터베이스(dataSource)).isEqualTo("primary");
+    }
+
+    @Test
+    void 레플리카를_사용할_수_없으면_읽기_전용_트랜잭션도_프라이머리로_보낸다() throws SQLException {
+        // given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, replicaHealth);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        replicaHealth.markUnavailable("lag");
+
+        // when, then
+        assertThat(연결된_데이터베이스(dataSource)).isEqualTo("primary");
+    }
+
+    @Test
+    void 레플리카에_연결하지_못하면_프라이머리로_대체하고_레플리카를_사용_불가로_표시한다() throws SQLException {
+        // given
+        DataSource unreachableReplica = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "");
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, unreachableReplica, replicaHealth);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        String database = 연결된_데이터베이스(dataSource);
+
+        // then
+        assertThat(database).isEqualTo("primary");
+        assertThat(replicaHealth.isAvailable()).isFalse();
+    }
+
+    @Test
+    void 레플리카_지연이_허용치를_넘으면_사용_불가로_표시하고_회복되면_다시_사용한다() {
+        // given
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag_millis BIGINT)");
+        replicaTemplate.execute("DELETE FROM replica_lag");
+        replicaTemplate.update("INSERT INTO replica_lag VALUES (5000)");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, replicaHealth,
+                "SELECT lag_millis FROM replica_lag", 1_000L, 60_000L);
+
+        try {
+            // when
+            monitor.check();
+            boolean availableWhileLagging = replicaHealth.isAvailable();
+
+            replicaTemplate.update("UPDATE replica_lag SET lag_millis = 100");
+            monitor.check();
+
+            // then
+            assertThat(availableWhileLagging).isFalse();
+            assertThat(replicaHealth.isAvailable()).isTrue();
+        } finally {
+            monitor.destroy();
+        }
+    }
+
+    private DataSource 데이터베이스를_생성한다(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private void 이름을_기록한다(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS database_name (name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM database_name");
+        jdbcTemplate.update("INSERT INTO database_name VALUES (?)", name);
+    }
+
+    private String 연결된_데이터베이스(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM database_name")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Product;
+import kitchenpos.dto.request.CreateMenuRequest;
+import kitchenpos.dto.request.MenuProductRequest;
+import kitchenpos.dto.response.MenuResponse;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.ProductFixture;
+import kitchenpos.monitoring.SqlStatementScope;
+import kitchenpos.supports.IntegrationTestContext;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SuppressWarnings("NonAsciiCharacters")
+class CatalogCacheIntegrationTest extends IntegrationTestContext {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 메뉴_그룹_존재_검증은_2차_캐시에서_조회한다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Statistics statistics = 쿼리_통계를_초기화한다();
+
+        // when
+        SqlStatementScope scope = SQL_실행을_기록한다(
+                () -> menuGroupService.validateMenuGroupExists(menuGroup.getId()));
+
+        // then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("menu-group");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(scope.getStatementCount()).isZero();
+            softly.assertThat(region.getHitCount()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void 메뉴_존재_검증은_2차_캐시에서_조회한다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Menu menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        menuService.validateMenusExist(List.of(menu.getId()));
+        Statistics statistics = 쿼리_통계를_초기화한다();
+
+        // when
+        SqlStatementScope scope = SQL_실행을_기록한다(() -> menuService.validateMenusExist(List.of(menu.getId())));
+
+        // then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("menu");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(scope.getStatementCount()).isZero();
+            softly.assertThat(region.getHitCount()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void 캐시에_없는_메뉴는_한_번에_조회해_2차_캐시에_넣는다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Menu menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        Menu otherMenu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        List<Long> menuIds = List.of(menu.getId(), otherMenu.getId());
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        SqlStatementScope cold = SQL_실행을_기록한다(() -> menuService.validateMenusExist(menuIds));
+        SqlStatementScope warm = SQL_실행을_기록한다(() -> menuService.validateMenusExist(menuIds));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(cold.getStatementCount()).isEqualTo(1L);
+            softly.assertThat(warm.getStatementCount()).isZero();
+        });
+    }
+
+    @Test
+    void 메뉴와_메뉴_상품은_2차_캐시에서_조회한다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Product product = productRepository.save(ProductFixture.of("name", BigDecimal.valueOf(1000L)));
+        MenuResponse created = menuService.create(new CreateMenuRequest("name", BigDecimal.valueOf(1000L),
+                menuGroup.getId(), List.of(new MenuProductRequest(product.getId(), 1L))));
+        메뉴_상품을_조회한다(created.getId());
+
+        // when
+        SqlStatementScope scope = SQL_실행을_기록한다(() -> 메뉴_상품을_조회한다(created.getId()));
+
+        // then
+        assertThat(scope.getStatementCount()).isZero();
+    }
+
+    private void 메뉴_상품을_조회한다(Long menuId) {
+        transactionTemplate.executeWithoutResult(status -> menuRepository.findById(menuId)
+                .orElseThrow()
+                .getMenuProducts()
+                .size());
+    }
+
+    private Statistics 쿼리_통계를_초기화한다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        return statistics;
+    }
+}
@@ -0,0 +1,120 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.util.List;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.monitoring.EventDispatchTrace;
+import kitchenpos.monitoring.EventDispatchTraceEntry;
+import kitchenpos.monitoring.EventDispatchTracer;
+import kitchenpos.supports.IntegrationTestContext;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@SuppressWarnings("NonAsciiCharacters")
+class EventDispatchMonitoringIntegrationTest extends IntegrationTestContext {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private CreateOrderRequest createOrderRequest;
+
+    @BeforeEach
+    void setUp() {
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Menu menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+
+        createOrderRequest = new CreateOrderRequest(orderTable.getId(),
+                List.of(new OrderLineItemRequest(menu.getId(), 1L)));
+    }
+
+    @Test
+    void 이벤트마다_호출된_리스너와_실행된_SQL_수를_추적한다() {
+        // when
+        EventDispatchTrace trace = EventDispatchTracer.start("test");
+        try (trace) {
+            orderService.create(createOrderRequest);
+        }
+
+        // then
+        EventDispatchTraceEntry tableValidation = 추적_항목을_찾는다(trace,
+                "OrderTableEventListener.validateOrderTableIsNotEmpty");
+        EventDispatchTraceEntry menuValidation = 추적_항목을_찾는다(trace, "MenuEventListener.validateMenusExist");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(tableValidation.getEvent()).isEqualTo("ValidateOrderTableIsNotEmptyEvent");
+            softly.assertThat(tableValidation.getDepth()).isZero();
+            softly.assertThat(tableValidation.getStatementCount()).isPositive();
+            softly.assertThat(menuValidation.getEvent()).isEqualTo("ValidateMenusExistEvent");
+            softly.assertThat(trace.format()).contains("ValidateOrderTableIsNotEmptyEvent -> ");
+        });
+    }
+
+    @Test
+    void 추적을_닫으면_이후_이벤트는_어떤_추적에도_남기지_않는다() {
+        // given
+        EventDispatchTrace closed = EventDispatchTracer.start("closed");
+        try (closed) {
+            orderService.create(createOrderRequest);
+        }
+        int closedEntryCount = closed.getEntries().size();
+
+        // when
+        EventDispatchTrace current = EventDispatchTracer.current();
+        orderService.create(createOrderRequest);
+        EventDispatchTrace next = EventDispatchTracer.start("next");
+        next.close();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(closedEntryCount).isPositive();
+            softly.assertThat(current).isNull();
+            softly.assertThat(closed.getEntries()).hasSize(closedEntryCount);
+            softly.assertThat(next.getEntries()).isEmpty();
+            softly.assertThat(EventDispatchTracer.current()).isNull();
+        });
+    }
+
+    @Test
+    void 이벤트_종류별로_발행_횟수와_지연_시간을_기록한다() {
+        // given
+        long before = 발행_횟수("ValidateMenusExistEvent");
+
+        // when
+        orderService.create(createOrderRequest);
+
+        // then
+        assertThat(발행_횟수("ValidateMenusExistEvent")).isEqualTo(before + 1);
+    }
+
+    private EventDispatchTraceEntry 추적_항목을_찾는다(EventDispatchTrace trace, String listener) {
+        return trace.getEntries()
+                .stream()
+                .filter(each -> each.getListener().equals(listener))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long 발행_횟수(String event) {
+        Timer timer = meterRegistry.find("kitchenpos.events.dispatch")
+                .tag("event", event)
+                .timer();
+        if (timer == null) {
+            return 0L;
+        }
+        return timer.count();
+    }
+}
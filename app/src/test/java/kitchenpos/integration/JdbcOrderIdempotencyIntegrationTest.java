@@ -0,0 +1,74 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import kitchenpos.dto.response.OrderResponse;
+import kitchenpos.service.JdbcOrderIdempotencyStore;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@SuppressWarnings("NonAsciiCharacters")
+@TestPropertySource(properties = "kitchenpos.order-idempotency.store=jdbc")
+class JdbcOrderIdempotencyIntegrationTest extends OrderIdempotencyIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JdbcOrderIdempotencyStore jdbcOrderIdempotencyStore;
+
+    @Test
+    void 멱등_키와_생성한_주문_아이디를_테이블에_기록한다() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        // when
+        OrderResponse response = idempotentOrderService.create(idempotencyKey, request);
+
+        // then
+        Long orderId = jdbcTemplate.queryForObject(
+                "SELECT order_id FROM order_idempotency_key WHERE idempotency_key = ?", Long.class, idempotencyKey);
+        assertThat(orderId).isEqualTo(response.getId());
+    }
+
+    @Test
+    void 만료된_멱등_키는_백그라운드_정리_작업에서_삭제한다() {
+        // given
+        String expiredKey = UUID.randomUUID().toString();
+        String idempotencyKey = UUID.randomUUID().toString();
+        idempotentOrderService.create(expiredKey, request);
+        idempotentOrderService.create(idempotencyKey, request);
+        jdbcTemplate.update("UPDATE order_idempotency_key SET created_time = ? WHERE idempotency_key = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(2)), expiredKey);
+
+        // when
+        int purgedCount = jdbcOrderIdempotencyStore.purgeExpiredKeys();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(purgedCount).isEqualTo(1);
+            softly.assertThat(jdbcTemplate.queryForList("SELECT idempotency_key FROM order_idempotency_key",
+                    String.class)).containsExactly(idempotencyKey);
+        });
+    }
+
+    @Test
+    void 만료된_멱등_키로_다시_요청하면_새_주문을_생성한다() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        OrderResponse first = idempotentOrderService.create(idempotencyKey, request);
+        jdbcTemplate.update("UPDATE order_idempotency_key SET created_time = ? WHERE idempotency_key = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(2)), idempotencyKey);
+
+        // when
+        OrderResponse retried = idempotentOrderService.create(idempotencyKey, request);
+
+        // then
+        assertThat(retried.getId()).isNotEqualTo(first.getId());
+    }
+}
@@ -2,10 +2,13 @@ package kitchenpos.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import kitchenpos.fixture.MenuGroupFixture;
 import kitchenpos.fixture.ProductFixture;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import javax.persistence.EntityManagerFactory;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.Product;
 import kitchenpos.dto.request.CreateMenuRequest;
@@ -13,18 +16,29 @@ import kitchenpos.dto.request.MenuProductRequest;
 import kitchenpos.dto.response.MenuResponse;
 import kitchenpos.event.ValidateMenuGroupExistsEvent;
 import kitchenpos.exception.MenuGroupNotFoundException;
+import kitchenpos.exception.MenuNotFoundException;
 import kitchenpos.exception.MenuPriceIsBiggerThanActualPriceException;
+import kitchenpos.exception.ProductNotFoundException;
 import kitchenpos.vo.Money;
 import kitchenpos.vo.PriceIsNegativeException;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.util.ReflectionTestUtils;
 import kitchenpos.supports.IntegrationTestContext;
 
 @SuppressWarnings("NonAsciiCharacters")
 class MenuIntegrationTest extends IntegrationTestContext {
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void 메뉴_가격이_0보다_작으면_예외를_던진다() {
         // given
@@ -104,6 +118,63 @@ class MenuIntegrationTest extends IntegrationTestContext {
         });
     }
 
+    @Test
+    void 존재하지_않는_상품을_참조하면_없는_상품_아이디를_모두_알려준다() {
+        // given
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        Product product = ProductFixture.of("name", BigDecimal.valueOf(1000L));
+
+        menuGroupRepository.save(menuGroup);
+        productRepository.save(product);
+
+        CreateMenuRequest request = new CreateMenuRequest("menuName",
+                BigDecimal.valueOf(999L),
+                menuGroup.getId(),
+                List.of(new MenuProductRequest(product.getId(), 1L),
+                        new MenuProductRequest(Long.MAX_VALUE, 1L),
+                        new MenuProductRequest(Long.MAX_VALUE - 1L, 1L)));
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> menuService.create(request))
+                .isInstanceOf(ProductNotFoundException.class)
+                .hasMessageContaining(String.valueOf(Long.MAX_VALUE))
+                .hasMessageContaining(String.valueOf(Long.MAX_VALUE - 1L));
+    }
+
+    @Test
+    void 메뉴를_생성할_때_메뉴_상품의_상품은_한_번의_쿼리로_조회한다() {
+        // given
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        menuGroupRepository.save(menuGroup);
+
+        List<MenuProductRequest> menuProductRequests = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            Product product = ProductFixture.of("name" + i, BigDecimal.valueOf(1000L));
+            productRepository.save(product);
+            menuProductRequests.add(new MenuProductRequest(product.getId(), 1L));
+        }
+        CreateMenuRequest request = new CreateMenuRequest("menuName",
+                BigDecimal.valueOf(999L),
+                menuGroup.getId(),
+                menuProductRequests);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        MenuResponse response = menuService.create(request);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.getMenuProducts()).hasSize(15);
+            softly.assertThat(statistics.getEntityLoadCount()).isEqualTo(15L);
+            softly.assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+            softly.assertThat(statistics.getQueryExecutionCount()).isEqualTo(1L);
+        });
+    }
+
     @Test
     void 전체_메뉴를_조회할_수_있다() {
         // given
@@ -127,6 +198,72 @@ class MenuIntegrationTest extends IntegrationTestContext {
         assertThat(response).hasSize(1);
     }
 
+    @Test
+    void 전체_메뉴를_다시_조회하면_메뉴_카탈로그에서_반환한다() {
+        // given
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        Product product = ProductFixture.of("name", BigDecimal.valueOf(1000L));
+
+        menuGroupRepository.save(menuGroup);
+        productRepository.save(product);
+
+        menuService.create(new CreateMenuRequest("menuName",
+                BigDecimal.valueOf(999L),
+                menuGroup.getId(),
+                List.of(new MenuProductRequest(product.getId(), 1L))));
+        double missCount = 메뉴_카탈로그_조회_횟수("miss");
+        double hitCount = 메뉴_카탈로그_조회_횟수("hit");
+        long rebuildCount = 메뉴_카탈로그_재구성_횟수();
+
+        // when
+        menuService.findAll();
+        List<MenuResponse> response = menuService.findAll();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response).hasSize(1);
+            softly.assertThat(메뉴_카탈로그_조회_횟수("miss")).isEqualTo(missCount + 1);
+            softly.assertThat(메뉴_카탈로그_조회_횟수("hit")).isEqualTo(hitCount + 1);
+            softly.assertThat(메뉴_카탈로그_재구성_횟수()).isEqualTo(rebuildCount + 1);
+            softly.assertThat(meterRegistry.get("kitchenpos.menu.catalog.size").gauge().value()).isEqualTo(1.0);
+        });
+    }
+
+    @Test
+    void 메뉴를_생성하면_다시_만들지_않고_메뉴_카탈로그에_추가한다() {
+        // given
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        Product product = ProductFixture.of("name", BigDecimal.valueOf(1000L));
+
+        menuGroupRepository.save(menuGroup);
+        productRepository.save(product);
+
+        CreateMenuRequest request = new CreateMenuRequest("menuName",
+                BigDecimal.valueOf(999L),
+                menuGroup.getId(),
+                List.of(new MenuProductRequest(product.getId(), 1L)));
+        menuService.create(request);
+        menuService.findAll();
+        long rebuildCount = 메뉴_카탈로그_재구성_횟수();
+
+        // when
+        MenuResponse created = menuService.create(request);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(menuService.findAll()).hasSize(2);
+            softly.assertThat(menuService.findById(created.getId()).getName()).isEqualTo("menuName");
+            softly.assertThat(메뉴_카탈로그_재구성_횟수()).isEqualTo(rebuildCount);
+        });
+    }
+
+    @Test
+    void 메뉴_카탈로그에_없는_메뉴를_조회하면_예외를_던진다() {
+        // when, then
+        Assertions.assertThatThrownBy(() -> menuService.findById(Long.MAX_VALUE))
+                .isInstanceOf(MenuNotFoundException.class);
+    }
+
     @Test
     void 상품의_가격이_변경되더라도_메뉴_가격은_변하지_않는다() {
         // given
@@ -176,4 +313,17 @@ class MenuIntegrationTest extends IntegrationTestContext {
 
         assertThat(eventOccurredCount).isEqualTo(1);
     }
+
+    private double 메뉴_카탈로그_조회_횟수(String result) {
+        return meterRegistry.get("kitchenpos.menu.catalog.requests")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private long 메뉴_카탈로그_재구성_횟수() {
+        return (long) meterRegistry.get("kitchenpos.menu.catalog.rebuilds")
+                .functionTimer()
+                .count();
+    }
 }
@@ -0,0 +1,131 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.exception.OrderTableEmptyException;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.supports.IntegrationTestContext;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@SuppressWarnings("NonAsciiCharacters")
+@TestPropertySource(properties = "kitchenpos.metrics.order-status.cache-millis=0")
+class MetricsIntegrationTest extends IntegrationTestContext {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void 서비스_메서드의_지연_시간을_기록한다() {
+        // given
+        long before = 서비스_호출_횟수("TableService", "findAll");
+
+        // when
+        tableService.findAll();
+
+        // then
+        assertThat(서비스_호출_횟수("TableService", "findAll")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void 도메인_예외는_가장_바깥_서비스_메서드_기준으로_한_번만_센다() {
+        // given
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 0, true));
+        CreateOrderRequest request = new CreateOrderRequest(orderTable.getId(),
+                List.of(new OrderLineItemRequest(1L, 1L)));
+        double before = 예외_발생_횟수("OrderTableEmptyException", "OrderService.create");
+
+        // when
+        Assertions.assertThatThrownBy(() -> orderService.create(request))
+                .isInstanceOf(OrderTableEmptyException.class);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(예외_발생_횟수("OrderTableEmptyException", "OrderService.create"))
+                    .isEqualTo(before + 1);
+            softly.assertThat(meterRegistry.find("kitchenpos.exceptions")
+                    .tag("operation", "TableService.validateNotEmpty")
+                    .counter()).isNull();
+        });
+    }
+
+    @Test
+    void 진행_중인_주문_수를_주문_상태별로_기록한다() {
+        // given
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+        orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.COOKING, LocalDateTime.now()));
+        orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.COOKING, LocalDateTime.now()));
+        orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.MEAL, LocalDateTime.now()));
+        orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.COMPLETION, LocalDateTime.now()));
+
+        // when, then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(진행_중인_주문_수(OrderStatus.COOKING)).isEqualTo(2.0);
+            softly.assertThat(진행_중인_주문_수(OrderStatus.MEAL)).isEqualTo(1.0);
+            softly.assertThat(meterRegistry.find("kitchenpos.orders.active")
+                    .tag("status", OrderStatus.COMPLETION.name())
+                    .gauge()).isNull();
+        });
+    }
+
+    @Test
+    void 진행_중인_주문_수를_기록해도_서비스_메서드_지표는_남기지_않는다() {
+        // given
+        long before = 전체_서비스_호출_횟수();
+
+        // when
+        진행_중인_주문_수(OrderStatus.COOKING);
+
+        // then
+        assertThat(전체_서비스_호출_횟수()).isEqualTo(before);
+    }
+
+    private long 전체_서비스_호출_횟수() {
+        return meterRegistry.find("kitchenpos.service")
+                .timers()
+                .stream()
+                .mapToLong(each -> each.count())
+                .sum();
+    }
+
+    private long 서비스_호출_횟수(String className, String method) {
+        return meterRegistry.find("kitchenpos.service")
+                .tag("class", className)
+                .tag("method", method)
+                .tag("exception", "none")
+                .timers()
+                .stream()
+                .mapToLong(each -> each.count())
+                .sum();
+    }
+
+    private double 예외_발생_횟수(String exception, String operation) {
+        Counter counter = meterRegistry.find("kitchenpos.exceptions")
+                .tag("exception", exception)
+                .tag("operation", operation)
+                .counter();
+        if (counter == null) {
+            return 0.0;
+        }
+        return counter.count();
+    }
+
+    private double 진행_중인_주문_수(OrderStatus orderStatus) {
+        return meterRegistry.get("kitchenpos.orders.active")
+                .tag("status", orderStatus.name())
+                .gauge()
+                .value();
+    }
+}
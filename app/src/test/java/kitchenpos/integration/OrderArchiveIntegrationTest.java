@@ -0,0 +1,214 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.dto.request.ChangeOrderStatusRequest;
+import kitchenpos.dto.request.OrderSliceRequest;
+import kitchenpos.dto.response.OrderResponse;
+import kitchenpos.dto.response.OrderSliceResponse;
+import kitchenpos.exception.OrderIsCompletedException;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.repository.ArchivedOrderRepository;
+import kitchenpos.service.OrderArchiveScheduler;
+import kitchenpos.service.OrderArchiveService;
+import kitchenpos.supports.IntegrationTestContext;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@SuppressWarnings("NonAsciiCharacters")
+class OrderArchiveIntegrationTest extends IntegrationTestContext {
+
+    private static final LocalDateTime OLD_ORDERED_TIME = LocalDateTime.now().minusDays(60);
+
+    @Autowired
+    private OrderArchiveScheduler orderArchiveScheduler;
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    private Menu menu;
+    private OrderTable orderTable;
+
+    @BeforeEach
+    void setUp() {
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+    }
+
+    @Test
+    void 오래된_완료_주문을_주문_항목과_함께_보관_테이블로_옮긴다() {
+        // given
+        Order order = 주문을_생성한다(OrderStatus.COMPLETION, OLD_ORDERED_TIME);
+
+        // when
+        int archivedCount = orderArchiveScheduler.archiveCompletedOrders();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(archivedCount).isEqualTo(1);
+            softly.assertThat(orderRepository.findById(order.getId())).isEmpty();
+            softly.assertThat(archivedOrderRepository.findAllWithOrderLineItemsByIdIn(List.of(order.getId())))
+                    .singleElement()
+                    .satisfies(each -> assertThat(each.getOrderLineItems()).hasSize(2));
+        });
+    }
+
+    @Test
+    void 최근_완료_주문과_완료되지_않은_주문은_옮기지_않는다() {
+        // given
+        주문을_생성한다(OrderStatus.COMPLETION, LocalDateTime.now());
+        주문을_생성한다(OrderStatus.MEAL, OLD_ORDERED_TIME);
+        주문을_생성한다(OrderStatus.COOKING, OLD_ORDERED_TIME);
+
+        // when
+        int archivedCount = orderArchiveScheduler.archiveCompletedOrders();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(archivedCount).isZero();
+            softly.assertThat(orderRepository.count()).isEqualTo(3);
+            softly.assertThat(archivedOrderRepository.count()).isZero();
+        });
+    }
+
+    @Test
+    void 완료_주문은_배치_크기만큼_나누어_옮긴다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            주문을_생성한다(OrderStatus.COMPLETION, OLD_ORDERED_TIME);
+        }
+        LocalDateTime orderedBefore = LocalDateTime.now().minusDays(30);
+
+        // when
+        List<Integer> batchCounts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            batchCounts.add(orderArchiveService.archiveCompletedOrders(orderedBefore, 2));
+        }
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(batchCounts).containsExactly(2, 2, 1, 0);
+            softly.assertThat(orderRepository.count()).isZero();
+            softly.assertThat(archivedOrderRepository.count()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    void 보관된_주문도_주문_조회_결과에_포함된다() {
+        // given
+        Order archivedOrder = 주문을_생성한다(OrderStatus.COMPLETION, OLD_ORDERED_TIME);
+        Order order = 주문을_생성한다(OrderStatus.COOKING, LocalDateTime.now());
+        orderArchiveScheduler.archiveCompletedOrders();
+
+        // when
+        List<OrderResponse> all = orderService.findAll();
+        List<OrderResponse> completed = orderService.findAllByOrderStatus(List.of("COMPLETION"), null);
+        OrderSliceResponse slice = orderService.findSlice(new OrderSliceRequest(null, 10, null, null));
+        List<OrderResponse> exported = new ArrayList<>();
+        orderService.exportAll(exported::add);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(all).extracting(OrderResponse::getId)
+                    .containsExactly(archivedOrder.getId(), order.getId());
+            softly.assertThat(completed).extracting(OrderResponse::getId)
+                    .containsExactly(archivedOrder.getId());
+            softly.assertThat(slice.getOrders()).extracting(OrderResponse::getId)
+                    .containsExactly(archivedOrder.getId(), order.getId());
+            softly.assertThat(exported).extracting(OrderResponse::getId)
+                    .containsExactly(order.getId(), archivedOrder.getId());
+            softly.assertThat(exported).allMatch(each -> each.getOrderLineItems().size() == 2);
+        });
+    }
+
+    @Test
+    void 내보내는_도중_주문이_보관되어도_빠지거나_중복되지_않는다() {
+        // given
+        Order firstOrder = 주문을_생성한다(OrderStatus.COMPLETION, OLD_ORDERED_TIME);
+        Order secondOrder = 주문을_생성한다(OrderStatus.COMPLETION, OLD_ORDERED_TIME);
+        Order lastOrder = 주문을_생성한다(OrderStatus.COOKING, LocalDateTime.now());
+        List<OrderResponse> exported = new ArrayList<>();
+
+        // when
+        orderService.exportAll(each -> {
+            exported.add(each);
+            if (each.getId().equals(lastOrder.getId())) {
+                다른_트랜잭션에서_완료_주문을_보관한다();
+            }
+        });
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(archivedOrderRepository.count()).isEqualTo(2);
+            softly.assertThat(exported).extracting(OrderResponse::getId)
+                    .containsExactly(firstOrder.getId(), secondOrder.getId(), lastOrder.getId());
+        });
+    }
+
+    @Test
+    void 보관된_주문과_주문이_섞여_있어도_커서_조회는_아이디_순서를_유지한다() {
+        // given
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            OrderStatus orderStatus = i % 2 == 0 ? OrderStatus.COMPLETION : OrderStatus.MEAL;
+            orderIds.add(주문을_생성한다(orderStatus, OLD_ORDERED_TIME).getId());
+        }
+        orderArchiveScheduler.archiveCompletedOrders();
+
+        // when
+        OrderSliceResponse firstSlice = orderService.findSlice(new OrderSliceRequest(null, 4, null, null));
+        OrderSliceResponse secondSlice = orderService.findSlice(
+                new OrderSliceRequest(firstSlice.getNextCursor(), 4, null, null));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(firstSlice.getOrders()).extracting(OrderResponse::getId)
+                    .containsExactlyElementsOf(orderIds.subList(0, 4));
+            softly.assertThat(secondSlice.getOrders()).extracting(OrderResponse::getId)
+                    .containsExactlyElementsOf(orderIds.subList(4, 6));
+            softly.assertThat(secondSlice.getNextCursor()).isNull();
+        });
+    }
+
+    @Test
+    void 보관된_주문의_상태를_변경하려_하면_예외를_던진다() {
+        // given
+        Order order = 주문을_생성한다(OrderStatus.COMPLETION, OLD_ORDERED_TIME);
+        orderArchiveScheduler.archiveCompletedOrders();
+
+        // when, then
+        Assertions.assertThatThrownBy(
+                        () -> orderService.changeOrderStatus(order.getId(), new ChangeOrderStatusRequest("MEAL")))
+                .isInstanceOf(OrderIsCompletedException.class);
+    }
+
+    private void 다른_트랜잭션에서_완료_주문을_보관한다() {
+        CompletableFuture.runAsync(orderArchiveScheduler::archiveCompletedOrders).join();
+    }
+
+    private Order 주문을_생성한다(OrderStatus orderStatus, LocalDateTime orderedTime) {
+        Order order = OrderFixture.of(orderTable.getId(), orderStatus, orderedTime);
+        order.setupOrderLineItems(List.of(new OrderLineItem(menu.getId(), 1L), new OrderLineItem(menu.getId(), 2L)));
+
+        return orderRepository.save(order);
+    }
+}
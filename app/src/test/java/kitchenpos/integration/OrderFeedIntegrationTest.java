@@ -0,0 +1,118 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.dto.response.OrderResponse;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.supports.IntegrationTestContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SuppressWarnings("NonAsciiCharacters")
+@AutoConfigureMockMvc
+class OrderFeedIntegrationTest extends IntegrationTestContext {
+
+    private static final Pattern EVENT_ID_PATTERN = Pattern.compile("id:(\\d+)");
+    private static final long WAIT_TIMEOUT_MILLIS = 5_000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private CreateOrderRequest createOrderRequest;
+
+    @BeforeEach
+    void setUp() {
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        menuGroupRepository.save(menuGroup);
+
+        Menu menu = MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L));
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+
+        menuRepository.save(menu);
+        orderTableRepository.save(orderTable);
+
+        createOrderRequest = new CreateOrderRequest(orderTable.getId(),
+                List.of(new OrderLineItemRequest(menu.getId(), 1L)));
+    }
+
+    @Test
+    void 주문이_커밋되면_구독자에게_주문_변경을_전송한다() throws Exception {
+        // given
+        MvcResult feed = 주문_피드를_구독한다(null);
+
+        // when
+        OrderResponse order = orderService.create(createOrderRequest);
+
+        // then
+        String content = 응답을_기다린다(feed, "\"id\":" + order.getId());
+        assertThat(content).contains("event:order");
+    }
+
+    @Test
+    void 마지막_이벤트_아이디로_재연결하면_놓친_주문_변경부터_전송한다() throws Exception {
+        // given
+        MvcResult feed = 주문_피드를_구독한다(null);
+        OrderResponse received = orderService.create(createOrderRequest);
+        String content = 응답을_기다린다(feed, "\"id\":" + received.getId());
+        long lastEventId = 마지막_이벤트_아이디(content);
+
+        OrderResponse missed = orderService.create(createOrderRequest);
+
+        // when
+        MvcResult resumed = 주문_피드를_구독한다(lastEventId);
+
+        // then
+        String resumedContent = 응답을_기다린다(resumed, "\"id\":" + missed.getId());
+        assertThat(resumedContent).doesNotContain("\"id\":" + received.getId() + ",");
+    }
+
+    private MvcResult 주문_피드를_구독한다(Long lastEventId) throws Exception {
+        if (lastEventId == null) {
+            return mockMvc.perform(get("/api/orders/feed"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+        }
+        return mockMvc.perform(get("/api/orders/feed").header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String 응답을_기다린다(MvcResult result, String expected)
+            throws UnsupportedEncodingException, InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MILLIS;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+            content = result.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+
+    private long 마지막_이벤트_아이디(String content) {
+        Matcher matcher = EVENT_ID_PATTERN.matcher(content);
+        long lastEventId = 0L;
+        while (matcher.find()) {
+            lastEventId = Long.parseLong(matcher.group(1));
+        }
+        return lastEventId;
+    }
+}
@@ -0,0 +1,159 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.dto.response.OrderResponse;
+import kitchenpos.event.ValidateMenusExistEvent;
+import kitchenpos.exception.IdempotencyKeyReusedException;
+import kitchenpos.exception.InvalidIdempotencyKeyException;
+import kitchenpos.exception.OrderLineEmptyException;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.service.IdempotentOrderService;
+import kitchenpos.supports.IntegrationTestContext;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@SuppressWarnings("NonAsciiCharacters")
+class OrderIdempotencyIntegrationTest extends IntegrationTestContext {
+
+    private static final int CONCURRENT_RETRY_COUNT = 8;
+
+    @Autowired
+    protected IdempotentOrderService idempotentOrderService;
+
+    protected CreateOrderRequest request;
+
+    @BeforeEach
+    void setUp() {
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Menu menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+
+        request = new CreateOrderRequest(orderTable.getId(), List.of(new OrderLineItemRequest(menu.getId(), 1L)));
+    }
+
+    @Test
+    void 같은_멱등_키로_다시_요청하면_검증과_저장_없이_처음_응답을_반환한다() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        OrderResponse first = idempotentOrderService.create(idempotencyKey, request);
+
+        // when
+        OrderResponse retried = idempotentOrderService.create(idempotencyKey, request);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(retried.getId()).isEqualTo(first.getId());
+            softly.assertThat(orderRepository.count()).isEqualTo(1);
+            softly.assertThat(applicationEvents.stream(ValidateMenusExistEvent.class).count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void 멱등_키가_없으면_요청마다_주문을_생성한다() {
+        // when
+        idempotentOrderService.create(null, request);
+        idempotentOrderService.create(null, request);
+
+        // then
+        assertThat(orderRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void 동시에_같은_멱등_키로_요청해도_주문은_한_번만_생성한다() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_RETRY_COUNT);
+
+        // when
+        List<Future<OrderResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_RETRY_COUNT; i++) {
+                futures.add(executor.submit(동시에_요청한다(startLatch, idempotencyKey)));
+            }
+            startLatch.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        List<Long> orderIds = new ArrayList<>();
+        for (Future<OrderResponse> future : futures) {
+            orderIds.add(future.get().getId());
+        }
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(orderIds).containsOnly(orderIds.get(0));
+            softly.assertThat(orderRepository.count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void 주문_생성에_실패하면_같은_멱등_키로_다시_시도할_수_있다() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderRequest invalidRequest = new CreateOrderRequest(request.getOrderTableId(), List.of());
+        Assertions.assertThatThrownBy(() -> idempotentOrderService.create(idempotencyKey, invalidRequest))
+                .isInstanceOf(OrderLineEmptyException.class);
+
+        // when
+        OrderResponse response = idempotentOrderService.create(idempotencyKey, request);
+
+        // then
+        assertThat(orderRepository.findById(response.getId())).isPresent();
+    }
+
+    @Test
+    void 같은_멱등_키로_다른_주문을_요청하면_예외를_던진다() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        idempotentOrderService.create(idempotencyKey, request);
+        CreateOrderRequest otherRequest = new CreateOrderRequest(request.getOrderTableId(),
+                List.of(new OrderLineItemRequest(request.getOrderLineItems().get(0).getMenuId(), 2L)));
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> idempotentOrderService.create(idempotencyKey, otherRequest))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(orderRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 멱등_키가_비어_있거나_너무_길면_예외를_던진다() {
+        // given
+        String tooLongKey = "k".repeat(256);
+
+        // when, then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> idempotentOrderService.create(" ", request))
+                    .isInstanceOf(InvalidIdempotencyKeyException.class);
+            softly.assertThatThrownBy(() -> idempotentOrderService.create(tooLongKey, request))
+                    .isInstanceOf(InvalidIdempotencyKeyException.class);
+        });
+    }
+
+    private Callable<OrderResponse> 동시에_요청한다(CountDownLatch startLatch, String idempotencyKey) {
+        return () -> {
+            startLatch.await();
+            return idempotentOrderService.create(idempotencyKey, request);
+        };
+    }
+}
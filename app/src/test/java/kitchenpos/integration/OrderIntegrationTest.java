@@ -1,6 +1,8 @@
 package kitchenpos.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import kitchenpos.fixture.MenuFixture;
 import kitchenpos.fixture.MenuGroupFixture;
@@ -8,7 +10,10 @@ import kitchenpos.fixture.OrderFixture;
 import kitchenpos.fixture.OrderTableFixture;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import javax.persistence.EntityManagerFactory;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.Order;
@@ -16,23 +21,47 @@ import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.dto.request.ChangeOrderStatusRequest;
 import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.CreateOrdersRequest;
 import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.dto.request.OrderSliceRequest;
+import kitchenpos.dto.response.CreateOrderResultResponse;
+import kitchenpos.dto.response.CreateOrdersResponse;
 import kitchenpos.dto.response.OrderResponse;
-import kitchenpos.event.ValidateMenuExistsEvent;
+import kitchenpos.dto.response.OrderSliceResponse;
+import kitchenpos.event.OrderChangedEvent;
+import kitchenpos.event.ValidateMenusExistEvent;
 import kitchenpos.event.ValidateOrderTableIsNotEmptyEvent;
+import kitchenpos.exception.InvalidOrderBatchSizeException;
+import kitchenpos.exception.InvalidOrderCursorException;
+import kitchenpos.exception.InvalidOrderSliceLimitException;
 import kitchenpos.exception.MenuNotFoundException;
 import kitchenpos.exception.OrderIsCompletedException;
+import kitchenpos.exception.OrderIsNotCompletedException;
 import kitchenpos.exception.OrderLineEmptyException;
 import kitchenpos.exception.OrderNotFoundException;
 import kitchenpos.exception.OrderTableNotFoundException;
+import kitchenpos.monitoring.SqlStatementScope;
 import kitchenpos.supports.IntegrationTestContext;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
 
 @SuppressWarnings("NonAsciiCharacters")
+@AutoConfigureMockMvc
 class OrderIntegrationTest extends IntegrationTestContext {
 
+    private static final String SEQUENCE_NEXT_VALUE = "next value for";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MockMvc mockMvc;
+
     @Test
     void 주문_항목이_없다면_예외를_던진다() {
         // given
@@ -61,6 +90,30 @@ class OrderIntegrationTest extends IntegrationTestContext {
                 .isInstanceOf(MenuNotFoundException.class);
     }
 
+    @Test
+    void 주문_항목의_메뉴가_여러_개_존재하지_않는다면_모두_알려준다() {
+        // given
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        menuGroupRepository.save(menuGroup);
+
+        Menu menu = MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L));
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+
+        menuRepository.save(menu);
+        orderTableRepository.save(orderTable);
+
+        CreateOrderRequest request = new CreateOrderRequest(orderTable.getId(), List.of(
+                new OrderLineItemRequest(menu.getId(), 1L),
+                new OrderLineItemRequest(Long.MAX_VALUE, 1L),
+                new OrderLineItemRequest(Long.MAX_VALUE - 1L, 1L)));
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> orderService.create(request))
+                .isInstanceOf(MenuNotFoundException.class)
+                .hasMessageContaining(String.valueOf(Long.MAX_VALUE))
+                .hasMessageContaining(String.valueOf(Long.MAX_VALUE - 1L));
+    }
+
     @Test
     void 주문_테이블이_존재하지_않는다면_예외를_던진다() {
         // given
@@ -239,9 +292,427 @@ class OrderIntegrationTest extends IntegrationTestContext {
         orderService.create(request);
 
         // then
-        long eventOccurredCount = applicationEvents.stream(ValidateMenuExistsEvent.class)
+        long eventOccurredCount = applicationEvents.stream(ValidateMenusExistEvent.class)
+                .count();
+
+        assertThat(eventOccurredCount).isEqualTo(1);
+    }
+
+    @Test
+    void 주문을_생성하거나_상태를_변경하면_주문_변경_이벤트를_발행한다() {
+        // given
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        menuGroupRepository.save(menuGroup);
+
+        Menu menu = MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L));
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+
+        menuRepository.save(menu);
+        orderTableRepository.save(orderTable);
+
+        CreateOrderRequest request = new CreateOrderRequest(orderTable.getId(),
+                List.of(new OrderLineItemRequest(menu.getId(), 1L)));
+
+        // when
+        OrderResponse created = orderService.create(request);
+        orderService.changeOrderStatus(created.getId(), new ChangeOrderStatusRequest("MEAL"));
+
+        // then
+        assertThat(applicationEvents.stream(OrderChangedEvent.class))
+                .extracting(each -> each.getOrder().getOrderStatus())
+                .containsExactly("COOKING", "MEAL");
+    }
+
+    @Test
+    void 커서를_이용해_주문을_나누어_조회할_수_있다() {
+        // given
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+        orderTableRepository.save(orderTable);
+
+        for (int i = 0; i < 3; i++) {
+            orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.COOKING, LocalDateTime.now()));
+        }
+
+        // when
+        OrderSliceResponse firstSlice = orderService.findSlice(new OrderSliceRequest(null, 2, null, null));
+        OrderSliceResponse secondSlice = orderService.findSlice(
+                new OrderSliceRequest(firstSlice.getNextCursor(), 2, null, null));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(firstSlice.getOrders()).hasSize(2);
+            softly.assertThat(firstSlice.getNextCursor()).isNotNull();
+            softly.assertThat(secondSlice.getOrders()).hasSize(1);
+            softly.assertThat(secondSlice.getNextCursor()).isNull();
+        });
+    }
+
+    @Test
+    void 커서_조회는_주문_테이블과_주문_상태로_필터링할_수_있다() {
+        // given
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+        OrderTable otherOrderTable = OrderTableFixture.of(null, 1, false);
+        orderTableRepository.save(orderTable);
+        orderTableRepository.save(otherOrderTable);
+
+        orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.COOKING, LocalDateTime.now()));
+        orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.MEAL, LocalDateTime.now()));
+        orderRepository.save(OrderFixture.of(otherOrderTable.getId(), OrderStatus.COOKING, LocalDateTime.now()));
+
+        // when
+        OrderSliceResponse response = orderService.findSlice(
+                new OrderSliceRequest(null, 10, orderTable.getId(), "COOKING"));
+
+        // then
+        assertThat(response.getOrders())
+                .singleElement()
+                .satisfies(each -> {
+                    assertThat(each.getOrderTableId()).isEqualTo(orderTable.getId());
+                    assertThat(each.getOrderStatus()).isEqualTo("COOKING");
+                });
+    }
+
+    @Test
+    void 올바르지_않은_커서로_조회하면_예외를_던진다() {
+        // given
+        OrderSliceRequest request = new OrderSliceRequest("not-a-cursor", 10, null, null);
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> orderService.findSlice(request))
+                .isInstanceOf(InvalidOrderCursorException.class);
+    }
+
+    @Test
+    void 조회_개수가_허용_범위를_벗어나면_예외를_던진다() {
+        // given
+        OrderSliceRequest request = new OrderSliceRequest(null, 0, null, null);
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> orderService.findSlice(request))
+                .isInstanceOf(InvalidOrderSliceLimitException.class);
+    }
+
+    @Test
+    void 주문_항목이_여러_개여도_메뉴_존재_검증_이벤트는_한_번만_발행한다() {
+        // given
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        menuGroupRepository.save(menuGroup);
+
+        Menu menu1 = MenuFixture.of(menuGroup.getId(), "name1", BigDecimal.valueOf(1000L));
+        Menu menu2 = MenuFixture.of(menuGroup.getId(), "name2", BigDecimal.valueOf(2000L));
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+
+        menuRepository.save(menu1);
+        menuRepository.save(menu2);
+        orderTableRepository.save(orderTable);
+
+        CreateOrderRequest request = new CreateOrderRequest(orderTable.getId(), List.of(
+                new OrderLineItemRequest(menu1.getId(), 1L),
+                new OrderLineItemRequest(menu2.getId(), 1L),
+                new OrderLineItemRequest(menu1.getId(), 3L)));
+
+        // when
+        orderService.create(request);
+
+        // then
+        long eventOccurredCount = applicationEvents.stream(ValidateMenusExistEvent.class)
                 .count();
 
         assertThat(eventOccurredCount).isEqualTo(1);
     }
+
+    @Test
+    void 전체_주문을_조회할_때_주문_항목을_함께_주문과_보관된_주문마다_한_번의_쿼리로_조회한다() {
+        // given
+        주문_항목이_있는_주문들을_생성한다(3);
+        Statistics statistics = 쿼리_통계를_초기화한다();
+
+        // when
+        List<OrderResponse> response = orderService.findAll();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response).hasSize(3);
+            softly.assertThat(response).allMatch(each -> each.getOrderLineItems().size() == 2);
+            softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void 커서로_조회할_때_주문_항목은_한_번의_추가_쿼리로_조회한다() {
+        // given
+        주문_항목이_있는_주문들을_생성한다(3);
+        Statistics statistics = 쿼리_통계를_초기화한다();
+
+        // when
+        OrderSliceResponse response = orderService.findSlice(new OrderSliceRequest(null, 10, null, null));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.getOrders()).hasSize(3);
+            softly.assertThat(response.getOrders()).allMatch(each -> each.getOrderLineItems().size() == 2);
+            softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void 전체_주문을_주문_항목과_함께_스트리밍으로_내보낼_수_있다() {
+        // given
+        주문_항목이_있는_주문들을_생성한다(3);
+        List<OrderResponse> exported = new ArrayList<>();
+
+        // when
+        orderService.exportAll(exported::add);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(exported).hasSize(3);
+            softly.assertThat(exported).allMatch(each -> each.getOrderLineItems().size() == 2);
+            softly.assertThat(exported).extracting(OrderResponse::getId).isSorted();
+        });
+    }
+
+    @Test
+    void 주문_항목이_없는_주문도_내보낼_수_있다() {
+        // given
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+        orderTableRepository.save(orderTable);
+        orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.COOKING, LocalDateTime.now()));
+
+        List<OrderResponse> exported = new ArrayList<>();
+
+        // when
+        orderService.exportAll(exported::add);
+
+        // then
+        assertThat(exported)
+                .singleElement()
+                .satisfies(each -> assertThat(each.getOrderLineItems()).isEmpty());
+    }
+
+    @Test
+    void 여러_주문을_한_번에_생성하고_주문별_결과를_반환한다() {
+        // given
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        menuGroupRepository.save(menuGroup);
+
+        Menu menu = MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L));
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+        OrderTable emptyOrderTable = OrderTableFixture.of(null, 1, true);
+
+        menuRepository.save(menu);
+        orderTableRepository.save(orderTable);
+        orderTableRepository.save(emptyOrderTable);
+
+        CreateOrdersRequest request = new CreateOrdersRequest(List.of(
+                new CreateOrderRequest(orderTable.getId(), List.of(new OrderLineItemRequest(menu.getId(), 1L))),
+                new CreateOrderRequest(emptyOrderTable.getId(), List.of(new OrderLineItemRequest(menu.getId(), 1L))),
+                new CreateOrderRequest(orderTable.getId(), List.of(new OrderLineItemRequest(Long.MAX_VALUE, 1L))),
+                new CreateOrderRequest(orderTable.getId(), List.of()),
+                new CreateOrderRequest(orderTable.getId(), List.of(new OrderLineItemRequest(menu.getId(), 2L)))));
+
+        // when
+        CreateOrdersResponse response = orderService.createAll(request);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.getResults())
+                    .extracting(CreateOrderResultResponse::getIndex)
+                    .containsExactly(0, 1, 2, 3, 4);
+            softly.assertThat(response.getResults())
+                    .extracting(CreateOrderResultResponse::isSuccess)
+                    .containsExactly(true, false, false, false, true);
+            softly.assertThat(response.getResults().get(2).getErrorMessage())
+                    .contains(String.valueOf(Long.MAX_VALUE));
+            softly.assertThat(orderRepository.findAll()).hasSize(2);
+        });
+    }
+
+    @Test
+    void 여러_주문을_생성할_때_테이블과_메뉴는_각각_한_번의_쿼리로_조회한다() {
+        // given
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        menuGroupRepository.save(menuGroup);
+
+        Menu menu = MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L));
+        OrderTable orderTable1 = OrderTableFixture.of(null, 1, false);
+        OrderTable orderTable2 = OrderTableFixture.of(null, 1, false);
+
+        menuRepository.save(menu);
+        orderTableRepository.save(orderTable1);
+        orderTableRepository.save(orderTable2);
+
+        List<CreateOrderRequest> orderRequests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Long orderTableId = i % 2 == 0 ? orderTable1.getId() : orderTable2.getId();
+            orderRequests.add(new CreateOrderRequest(orderTableId,
+                    List.of(new OrderLineItemRequest(menu.getId(), 1L))));
+        }
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        SqlStatementScope scope = SQL_실행을_기록한다(
+                () -> orderService.createAll(new CreateOrdersRequest(orderRequests)));
+
+        // then
+        assertThat(scope.getStatementCount(sql -> !sql.contains(SEQUENCE_NEXT_VALUE)))
+                .as("select 2번, orders insert, order_line_item insert, order_line_item.order_id update 배치")
+                .isEqualTo(5);
+    }
+
+    @Test
+    void 여러_주문_생성_요청에_비어_있는_주문이_있으면_그_주문만_실패로_반환한다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Menu menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+
+        CreateOrdersRequest request = new CreateOrdersRequest(Arrays.asList(
+                new CreateOrderRequest(orderTable.getId(), List.of(new OrderLineItemRequest(menu.getId(), 1L))),
+                null,
+                new CreateOrderRequest(orderTable.getId(), Arrays.asList(new OrderLineItemRequest(menu.getId(), 1L),
+                        null))));
+
+        // when
+        CreateOrdersResponse response = orderService.createAll(request);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.getResults())
+                    .extracting(CreateOrderResultResponse::isSuccess)
+                    .containsExactly(true, false, false);
+            softly.assertThat(orderRepository.findAll()).hasSize(1);
+        });
+    }
+
+    @Test
+    void 여러_주문_생성_요청에_주문이_없으면_예외를_던진다() {
+        // when, then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> orderService.createAll(new CreateOrdersRequest(null)))
+                    .isInstanceOf(InvalidOrderBatchSizeException.class);
+            softly.assertThatThrownBy(() -> orderService.createAll(new CreateOrdersRequest(List.of())))
+                    .isInstanceOf(InvalidOrderBatchSizeException.class);
+        });
+    }
+
+    @Test
+    void 한_번에_생성할_수_있는_주문_수를_넘으면_예외를_던진다() {
+        // given
+        List<CreateOrderRequest> orderRequests = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            orderRequests.add(new CreateOrderRequest(1L, List.of(new OrderLineItemRequest(1L, 1L))));
+        }
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> orderService.createAll(new CreateOrdersRequest(orderRequests)))
+                .isInstanceOf(InvalidOrderBatchSizeException.class);
+    }
+
+    @Test
+    void 주문_상태로_필터링한_주문을_주문_항목과_함께_조회할_수_있다() {
+        // given
+        주문_항목이_있는_주문들을_생성한다(3);
+        List<Order> orders = orderRepository.findAll();
+        orderService.changeOrderStatus(orders.get(1).getId(), new ChangeOrderStatusRequest("MEAL"));
+        orderService.changeOrderStatus(orders.get(2).getId(), new ChangeOrderStatusRequest("COMPLETION"));
+
+        // when
+        List<OrderResponse> responses = orderService.findAllByOrderStatus(List.of("COOKING", "MEAL"), null);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(responses)
+                    .extracting(OrderResponse::getId)
+                    .containsExactlyInAnyOrder(orders.get(0).getId(), orders.get(1).getId());
+            softly.assertThat(responses)
+                    .allSatisfy(each -> assertThat(each.getOrderLineItems()).hasSize(2));
+        });
+    }
+
+    @Test
+    void 주문_상태로_조회할_때_주문_시간_이후의_주문만_조회할_수_있다() {
+        // given
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+        orderTableRepository.save(orderTable);
+
+        LocalDateTime since = LocalDateTime.of(2023, 1, 1, 12, 0);
+        Order before = OrderFixture.of(orderTable.getId(), OrderStatus.COOKING, since.minusMinutes(1));
+        Order after = OrderFixture.of(orderTable.getId(), OrderStatus.COOKING, since);
+        orderRepository.save(before);
+        orderRepository.save(after);
+
+        // when
+        List<OrderResponse> responses = orderService.findAllByOrderStatus(List.of("COOKING"), since);
+
+        // then
+        assertThat(responses)
+                .extracting(OrderResponse::getId)
+                .containsExactly(after.getId())
+                .doesNotContain(before.getId());
+    }
+
+    @Test
+    void 주문_상태_없이_주문_시간으로_조회하면_400을_반환한다() throws Exception {
+        // when, then
+        mockMvc.perform(get("/api/orders").param("since", "2023-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 주문_상태로_조회할_때_주문과_주문_항목을_한_번의_쿼리로_조회한다() {
+        // given
+        주문_항목이_있는_주문들을_생성한다(5);
+        Statistics statistics = 쿼리_통계를_초기화한다();
+
+        // when
+        orderService.findAllByOrderStatus(List.of("COOKING", "MEAL"), null);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 완료되지_않은_주문이_있는지_주문을_불러오지_않고_확인한다() {
+        // given
+        주문_항목이_있는_주문들을_생성한다(3);
+        Long orderTableId = orderRepository.findAll().get(0).getOrderTableId();
+        Statistics statistics = 쿼리_통계를_초기화한다();
+
+        // when, then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> orderService.validateOrdersCompleted(orderTableId))
+                    .isInstanceOf(OrderIsNotCompletedException.class);
+            softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+            softly.assertThat(statistics.getEntityLoadCount()).isZero();
+        });
+    }
+
+    private void 주문_항목이_있는_주문들을_생성한다(int orderCount) {
+        MenuGroup menuGroup = MenuGroupFixture.from("name");
+        menuGroupRepository.save(menuGroup);
+
+        Menu menu1 = MenuFixture.of(menuGroup.getId(), "name1", BigDecimal.valueOf(1000L));
+        Menu menu2 = MenuFixture.of(menuGroup.getId(), "name2", BigDecimal.valueOf(2000L));
+        OrderTable orderTable = OrderTableFixture.of(null, 1, false);
+
+        menuRepository.save(menu1);
+        menuRepository.save(menu2);
+        orderTableRepository.save(orderTable);
+
+        for (int i = 0; i < orderCount; i++) {
+            orderService.create(new CreateOrderRequest(orderTable.getId(), List.of(
+                    new OrderLineItemRequest(menu1.getId(), 1L),
+                    new OrderLineItemRequest(menu2.getId(), 2L))));
+        }
+    }
+
+    private Statistics 쿼리_통계를_초기화한다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        return statistics;
+    }
 }
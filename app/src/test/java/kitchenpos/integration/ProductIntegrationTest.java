@@ -10,10 +10,15 @@ import kitchenpos.vo.PriceIsNotProvidedException;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @SuppressWarnings("NonAsciiCharacters")
 class ProductIntegrationTest extends IntegrationTestContext {
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void 상품_생성_시_가격이_0보다_작으면_예외를_던진다() {
         // given
@@ -49,6 +54,24 @@ class ProductIntegrationTest extends IntegrationTestContext {
         });
     }
 
+    @Test
+    void SQL로_직접_넣은_상품과_생성한_상품의_아이디는_같은_시퀀스에서_발급되어_겹치지_않는다() {
+        // given
+        상품을_SQL로_넣는다("inserted");
+        ProductResponse created = productService.create(new CreateProductRequest("created", BigDecimal.valueOf(1000L)));
+        상품을_SQL로_넣는다("inserted");
+
+        // when
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM product", Long.class);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(ids).hasSize(3);
+            softly.assertThat(ids).doesNotHaveDuplicates();
+            softly.assertThat(ids).contains(created.getId());
+        });
+    }
+
     @Test
     void 전체_상품을_조회할_수_있다() {
         // given
@@ -61,4 +84,8 @@ class ProductIntegrationTest extends IntegrationTestContext {
         // then
         Assertions.assertThat(response).hasSize(1);
     }
+
+    private void 상품을_SQL로_넣는다(String name) {
+        jdbcTemplate.update("INSERT INTO product (name, price) VALUES (?, ?)", name, 1000L);
+    }
 }
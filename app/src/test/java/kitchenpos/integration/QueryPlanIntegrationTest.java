@@ -0,0 +1,153 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.TableGroup;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.fixture.ProductFixture;
+import kitchenpos.fixture.TableGroupFixture;
+import kitchenpos.supports.IntegrationTestContext;
+import kitchenpos.vo.Money;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SuppressWarnings("NonAsciiCharacters")
+class QueryPlanIntegrationTest extends IntegrationTestContext {
+
+    private static final String TABLE_SCAN = "tableScan";
+    private static final String ORDERS_ORDER_TABLE_ID_INDEX = "fk_orders_to_order_table_index";
+    private static final String ORDER_TABLE_TABLE_GROUP_ID_INDEX = "fk_order_table_to_table_group_index";
+    private static final String ORDER_LINE_ITEM_ORDER_ID_INDEX = "fk_order_line_item_to_orders_index";
+    private static final String MENU_PRODUCT_MENU_ID_INDEX = "fk_menu_product_to_menu_index";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private OrderTable orderTable;
+    private TableGroup tableGroup;
+    private Order order;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Product product = productRepository.save(ProductFixture.of("name", BigDecimal.valueOf(1000L)));
+        menu = MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L));
+        menu.setupMenuProducts(List.of(new MenuProduct(product.getId(), 1L, new Money(product.getPrice()))));
+        menuRepository.save(menu);
+
+        tableGroup = tableGroupRepository.save(TableGroupFixture.from(LocalDateTime.now()));
+        for (int i = 0; i < 10; i++) {
+            orderTableRepository.save(OrderTableFixture.of(tableGroup.getId(), 1, false));
+        }
+        orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+
+        order = OrderFixture.of(orderTable.getId(), OrderStatus.COOKING, LocalDateTime.now());
+        order.setupOrderLineItems(List.of(new OrderLineItem(menu.getId(), 1L)));
+        orderRepository.save(order);
+    }
+
+    @Test
+    void 주문_테이블의_주문_조회는_외래_키_인덱스를_사용한다() {
+        // when
+        Set<String> statements = 실행된_SQL(() -> {
+            orderRepository.findByOrderTableId(orderTable.getId());
+            orderRepository.existsByOrderTableIdAndOrderStatusNot(orderTable.getId(), OrderStatus.COMPLETION);
+            orderRepository.findOrderTableIdsByOrderTableIdInAndOrderStatusNot(
+                    List.of(orderTable.getId()), OrderStatus.COMPLETION);
+        });
+
+        // then
+        테이블_스캔을_하지_않고_인덱스를_사용한다(statements, ORDERS_ORDER_TABLE_ID_INDEX);
+    }
+
+    @Test
+    void 단체의_주문_테이블_조회는_외래_키_인덱스를_사용한다() {
+        // when
+        Set<String> statements = 실행된_SQL(() -> orderTableRepository.findAllByTableGroupId(tableGroup.getId()));
+
+        // then
+        테이블_스캔을_하지_않고_인덱스를_사용한다(statements, ORDER_TABLE_TABLE_GROUP_ID_INDEX);
+    }
+
+    @Test
+    void 주문_항목_지연_로딩은_외래_키_인덱스를_사용한다() {
+        // when
+        Set<String> statements = 실행된_SQL(() -> transactionTemplate.executeWithoutResult(
+                status -> orderRepository.findById(order.getId())
+                        .orElseThrow()
+                        .getOrderLineItems()
+                        .size()));
+
+        // then
+        테이블_스캔을_하지_않고_인덱스를_사용한다(statements, ORDER_LINE_ITEM_ORDER_ID_INDEX);
+    }
+
+    @Test
+    void 메뉴_상품_지연_로딩은_외래_키_인덱스를_사용한다() {
+        // when
+        Set<String> statements = 실행된_SQL(() -> transactionTemplate.executeWithoutResult(
+                status -> menuRepository.findById(menu.getId())
+                        .orElseThrow()
+                        .getMenuProducts()
+                        .size()));
+
+        // then
+        테이블_스캔을_하지_않고_인덱스를_사용한다(statements, MENU_PRODUCT_MENU_ID_INDEX);
+    }
+
+    private Set<String> 실행된_SQL(Runnable operation) {
+        return SQL_실행을_기록한다(operation).getStatements();
+    }
+
+    private void 테이블_스캔을_하지_않고_인덱스를_사용한다(Set<String> statements, String index) {
+        assertThat(statements).isNotEmpty();
+        List<String> plans = statements.stream()
+                .map(this::실행_계획)
+                .collect(Collectors.toList());
+
+        SoftAssertions.assertSoftly(softly -> {
+            plans.forEach(each -> softly.assertThat(each)
+                    .doesNotContainIgnoringCase(TABLE_SCAN));
+            softly.assertThat(plans)
+                    .as(String.join(System.lineSeparator(), plans))
+                    .anyMatch(each -> each.toLowerCase().contains(index));
+        });
+    }
+
+    private String 실행_계획(String sql) {
+        Object[] parameters = Collections.nCopies(파라미터_개수(sql), "1").toArray();
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters);
+
+        return String.join(System.lineSeparator(), plan);
+    }
+
+    private int 파라미터_개수(String sql) {
+        return (int) sql.chars()
+                .filter(each -> each == '?')
+                .count();
+    }
+}
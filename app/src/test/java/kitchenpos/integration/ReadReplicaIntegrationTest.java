@@ -0,0 +1,93 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import javax.sql.DataSource;
+import kitchenpos.datasource.ReplicaHealth;
+import kitchenpos.dto.request.CreateProductRequest;
+import kitchenpos.dto.response.ProductResponse;
+import kitchenpos.fixture.ProductFixture;
+import kitchenpos.supports.IntegrationTestContext;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+@SuppressWarnings("NonAsciiCharacters")
+@TestPropertySource(properties = {
+        "kitchenpos.datasource.replica.enabled=true",
+        "kitchenpos.datasource.replica.url=" + ReadReplicaIntegrationTest.REPLICA_URL,
+        "kitchenpos.datasource.replica.check-interval-millis=60000"
+})
+class ReadReplicaIntegrationTest extends IntegrationTestContext {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-integration;DB_CLOSE_DELAY=-1";
+
+    private final DataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+    private final JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ReplicaHealth replicaHealth;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure()
+                .dataSource(replica)
+                .load()
+                .migrate();
+        replicaTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        replicaTemplate.execute("TRUNCATE TABLE product");
+        replicaTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaHealth.markAvailable();
+    }
+
+    @Test
+    void 읽기_전용_서비스_메서드는_레플리카에서_조회한다() {
+        // given
+        productRepository.save(ProductFixture.of("primary", BigDecimal.valueOf(1000L)));
+        replicaTemplate.update("INSERT INTO product (name, price) VALUES (?, ?)", "replica", 1000L);
+
+        // when
+        List<ProductResponse> response = productService.findAll();
+
+        // then
+        assertThat(response).extracting(ProductResponse::getName)
+                .containsExactly("replica");
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_프라이머리에_저장한다() {
+        // when
+        productService.create(new CreateProductRequest("name", BigDecimal.valueOf(1000L)));
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Long.class)).isEqualTo(1L);
+        assertThat(replicaTemplate.queryForObject("SELECT COUNT(*) FROM product", Long.class)).isZero();
+    }
+
+    @Test
+    void 레플리카를_사용할_수_없으면_프라이머리에서_조회한다() {
+        // given
+        productRepository.save(ProductFixture.of("primary", BigDecimal.valueOf(1000L)));
+        replicaHealth.markUnavailable("test");
+
+        // when
+        List<ProductResponse> response = productService.findAll();
+
+        // then
+        assertThat(response).extracting(ProductResponse::getName)
+                .containsExactly("primary");
+    }
+}
@@ -0,0 +1,137 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import kitchenpos.dto.request.CreateMenuRequest;
+import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.MenuProductRequest;
+import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.fixture.ProductFixture;
+import kitchenpos.monitoring.SqlStatementRecorder;
+import kitchenpos.monitoring.SqlStatementScope;
+import kitchenpos.supports.IntegrationTestContext;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@SuppressWarnings("NonAsciiCharacters")
+class SqlStatementMonitoringIntegrationTest extends IntegrationTestContext {
+
+    private static final long SEQUENCE_ALLOCATION_ALLOWANCE = 1L;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void 주문_생성의_SQL_실행_횟수는_주문_항목_수에_비례하지_않는다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            menus.add(menuRepository.save(MenuFixture.of(menuGroup.getId(), "name" + i, BigDecimal.valueOf(1000L))));
+        }
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+
+        SqlStatementScope singleLine = SQL_실행을_기록한다(() -> orderService.create(
+                new CreateOrderRequest(orderTable.getId(),
+                        List.of(new OrderLineItemRequest(menus.get(0).getId(), 1L)))));
+
+        List<OrderLineItemRequest> orderLineItems = new ArrayList<>();
+        for (Menu menu : menus) {
+            orderLineItems.add(new OrderLineItemRequest(menu.getId(), 1L));
+        }
+
+        // when, then
+        SQL_실행_횟수가_최대_횟수를_넘지_않는다(singleLine.getStatementCount() + SEQUENCE_ALLOCATION_ALLOWANCE,
+                () -> orderService.create(new CreateOrderRequest(orderTable.getId(), orderLineItems)));
+    }
+
+    @Test
+    void 메뉴_생성의_SQL_실행_횟수는_메뉴_상품_수에_비례하지_않는다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            products.add(productRepository.save(ProductFixture.of("name" + i, BigDecimal.valueOf(1000L))));
+        }
+
+        SqlStatementScope singleProduct = SQL_실행을_기록한다(() -> menuService.create(
+                new CreateMenuRequest("name", BigDecimal.valueOf(1000L), menuGroup.getId(),
+                        List.of(new MenuProductRequest(products.get(0).getId(), 1L)))));
+
+        List<MenuProductRequest> menuProducts = new ArrayList<>();
+        for (Product product : products) {
+            menuProducts.add(new MenuProductRequest(product.getId(), 1L));
+        }
+
+        // when, then
+        SQL_실행_횟수가_최대_횟수를_넘지_않는다(singleProduct.getStatementCount() + SEQUENCE_ALLOCATION_ALLOWANCE,
+                () -> menuService.create(
+                        new CreateMenuRequest("name", BigDecimal.valueOf(1000L), menuGroup.getId(), menuProducts)));
+    }
+
+    @Test
+    void 같은_SQL이_반복_실행되면_반복_횟수를_기록한다() {
+        // given
+        List<Long> orderTableIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            orderTableIds.add(orderTableRepository.save(OrderTableFixture.of(null, 1, false)).getId());
+        }
+
+        // when
+        SqlStatementScope scope = SQL_실행을_기록한다(() -> orderTableIds.forEach(orderTableRepository::findById));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(scope.getStatementCount()).isEqualTo(3L);
+            softly.assertThat(scope.getMaxRepeatedCount()).isEqualTo(3);
+            softly.assertThat(scope.getMostRepeatedStatement()).containsIgnoringCase("order_table");
+        });
+    }
+
+    @Test
+    void 중첩된_범위는_자신이_열린_동안의_SQL만_기록한다() {
+        // given
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+
+        // when
+        SqlStatementScope inner;
+        SqlStatementScope outer = SqlStatementRecorder.start("outer");
+        try (outer) {
+            orderTableRepository.findById(orderTable.getId());
+            inner = SQL_실행을_기록한다(() -> orderTableRepository.findById(orderTable.getId()));
+        }
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(outer.getStatementCount()).isEqualTo(2L);
+            softly.assertThat(inner.getStatementCount()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void 서비스_메서드별로_SQL_실행_횟수를_메트릭으로_기록한다() {
+        // when
+        tableService.findAll();
+
+        // then
+        long count = meterRegistry.get("kitchenpos.sql.statements")
+                .tag("scope", "service")
+                .tag("name", "TableService.findAll")
+                .summary()
+                .count();
+
+        assertThat(count).isPositive();
+    }
+}
@@ -8,6 +8,7 @@ import kitchenpos.fixture.TableGroupFixture;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import javax.persistence.EntityManagerFactory;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
@@ -15,13 +16,18 @@ import kitchenpos.domain.TableGroup;
 import kitchenpos.dto.request.CreateTableGroupRequest;
 import kitchenpos.dto.request.OrderTableRequest;
 import kitchenpos.dto.response.TableGroupResponse;
-import kitchenpos.event.ValidateAllOrderCompletedEvent;
+import kitchenpos.event.ValidateAllOrderCompletedInTablesEvent;
+import kitchenpos.exception.DuplicateOrderTableException;
 import kitchenpos.exception.OrderIsNotCompletedException;
 import kitchenpos.exception.OrderTableCountNotEnoughException;
 import kitchenpos.exception.OrderTableNotEmptyException;
 import kitchenpos.exception.OrderTableNotFoundException;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
@@ -31,6 +37,9 @@ import kitchenpos.supports.IntegrationTestContext;
 @SuppressWarnings("NonAsciiCharacters")
 class TableGroupIntegrationTest extends IntegrationTestContext {
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @ParameterizedTest
     @ValueSource(ints = {-1, 0, 1})
     void 두개_이상의_테이블을_그룹으로_지정하지_않으면_예외를_던진다(int tableSize) {
@@ -65,6 +74,24 @@ class TableGroupIntegrationTest extends IntegrationTestContext {
                 .isInstanceOf(OrderTableNotFoundException.class);
     }
 
+    @Test
+    void 같은_테이블을_중복해서_지정하면_예외를_던진다() {
+        // given
+        OrderTable orderTable = OrderTableFixture.of(null, 0, true);
+        orderTableRepository.save(orderTable);
+
+        List<OrderTableRequest> orderTableRequests = List.of(
+                new OrderTableRequest(orderTable.getId()),
+                new OrderTableRequest(orderTable.getId())
+        );
+
+        CreateTableGroupRequest request = new CreateTableGroupRequest(orderTableRequests);
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> tableGroupService.create(request))
+                .isInstanceOf(DuplicateOrderTableException.class);
+    }
+
     @Test
     void 그룹_지정_대상이_빈_테이블이_아니라면_예외를_던진다() {
         // given
@@ -191,9 +218,103 @@ class TableGroupIntegrationTest extends IntegrationTestContext {
         tableGroupService.ungroup(tableGroup.getId());
 
         // then
-        long eventOccurredCount = applicationEvents.stream(ValidateAllOrderCompletedEvent.class)
+        long eventOccurredCount = applicationEvents.stream(ValidateAllOrderCompletedInTablesEvent.class)
                 .count();
 
         assertThat(eventOccurredCount).isEqualTo(1);
     }
+
+    @Test
+    void 그룹_해체_시_모든_테이블의_주문을_한_번의_이벤트로_검증한다() {
+        // given
+        TableGroup tableGroup = TableGroupFixture.from(LocalDateTime.now());
+        tableGroupRepository.save(tableGroup);
+
+        for (int i = 0; i < 10; i++) {
+            OrderTable orderTable = OrderTableFixture.of(tableGroup.getId(), 0, false);
+            orderTableRepository.save(orderTable);
+            orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.COMPLETION, LocalDateTime.now()));
+        }
+
+        // when
+        tableGroupService.ungroup(tableGroup.getId());
+
+        // then
+        assertThat(applicationEvents.stream(ValidateAllOrderCompletedInTablesEvent.class))
+                .singleElement()
+                .satisfies(each -> assertThat(each.getOrderTableIds()).hasSize(10));
+    }
+
+    @Test
+    void 그룹_해체_시_완료되지_않은_주문이_있는_테이블을_모두_알려준다() {
+        // given
+        TableGroup tableGroup = TableGroupFixture.from(LocalDateTime.now());
+        tableGroupRepository.save(tableGroup);
+
+        OrderTable cookingTable = OrderTableFixture.of(tableGroup.getId(), 0, false);
+        OrderTable mealTable = OrderTableFixture.of(tableGroup.getId(), 0, false);
+        OrderTable completedTable = OrderTableFixture.of(tableGroup.getId(), 0, false);
+        orderTableRepository.save(cookingTable);
+        orderTableRepository.save(mealTable);
+        orderTableRepository.save(completedTable);
+
+        orderRepository.save(OrderFixture.of(cookingTable.getId(), OrderStatus.COOKING, LocalDateTime.now()));
+        orderRepository.save(OrderFixture.of(mealTable.getId(), OrderStatus.MEAL, LocalDateTime.now()));
+        orderRepository.save(OrderFixture.of(completedTable.getId(), OrderStatus.COMPLETION, LocalDateTime.now()));
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> tableGroupService.ungroup(tableGroup.getId()))
+                .isInstanceOf(OrderIsNotCompletedException.class)
+                .hasMessageContaining(String.valueOf(cookingTable.getId()))
+                .hasMessageContaining(String.valueOf(mealTable.getId()));
+    }
+
+    @Test
+    void 그룹을_지정할_때_테이블은_한_번의_쿼리로_한_번만_조회한다() {
+        // given
+        List<OrderTableRequest> orderTableRequests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            OrderTable orderTable = OrderTableFixture.of(null, 0, true);
+            orderTableRepository.save(orderTable);
+
+            orderTableRequests.add(new OrderTableRequest(orderTable.getId()));
+        }
+        테이블_그룹_시퀀스를_미리_할당받는다();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        tableGroupService.create(new CreateTableGroupRequest(orderTableRequests));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statistics.getQueryExecutionCount()).isEqualTo(1L);
+            softly.assertThat(statistics.getEntityLoadCount()).isEqualTo(10L);
+            softly.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3L);
+        });
+    }
+
+    @Test
+    void 존재하지_않는_테이블을_참조하면_없는_테이블_아이디를_모두_알려준다() {
+        // given
+        OrderTable orderTable = OrderTableFixture.of(null, 0, true);
+        orderTableRepository.save(orderTable);
+
+        CreateTableGroupRequest request = new CreateTableGroupRequest(List.of(
+                new OrderTableRequest(orderTable.getId()),
+                new OrderTableRequest(Long.MAX_VALUE),
+                new OrderTableRequest(Long.MAX_VALUE - 1L)));
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> tableGroupService.create(request))
+                .isInstanceOf(OrderTableNotFoundException.class)
+                .hasMessageContaining(String.valueOf(Long.MAX_VALUE))
+                .hasMessageContaining(String.valueOf(Long.MAX_VALUE - 1L));
+    }
+
+    private void 테이블_그룹_시퀀스를_미리_할당받는다() {
+        tableGroupRepository.save(TableGroupFixture.from(LocalDateTime.now()));
+    }
 }
@@ -0,0 +1,178 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.dto.request.ChangeEmptyTableRequest;
+import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.event.ValidateAllOrderCompletedEvent;
+import kitchenpos.event.ValidateMenusExistEvent;
+import kitchenpos.exception.MenuNotFoundException;
+import kitchenpos.exception.OrderIsNotCompletedException;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.MenuGroupFixture;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.monitoring.EventDispatchTrace;
+import kitchenpos.monitoring.EventDispatchTraceEntry;
+import kitchenpos.monitoring.EventDispatchTracer;
+import kitchenpos.supports.IntegrationTestContext;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SuppressWarnings("NonAsciiCharacters")
+class ValidationMemoIntegrationTest extends IntegrationTestContext {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 한_트랜잭션_안에서_같은_메뉴의_존재_검증은_한_번만_조회한다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Menu menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+        CreateOrderRequest request = new CreateOrderRequest(orderTable.getId(), List.of(
+                new OrderLineItemRequest(menu.getId(), 1L),
+                new OrderLineItemRequest(menu.getId(), 2L)));
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        EventDispatchTrace trace = EventDispatchTracer.start("test");
+        try (trace) {
+            transactionTemplate.executeWithoutResult(status -> {
+                orderService.create(request);
+                orderService.create(request);
+            });
+        }
+
+        // then
+        List<Long> statementCounts = 리스너의_SQL_실행_수(trace, "MenuEventListener.validateMenusExist");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(applicationEvents.stream(ValidateMenusExistEvent.class).count()).isEqualTo(2);
+            softly.assertThat(statementCounts).containsExactly(1L, 0L);
+        });
+    }
+
+    @Test
+    void 한_트랜잭션_안에서_같은_테이블의_주문_완료_검증은_한_번만_조회한다() {
+        // given
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+        orderRepository.save(OrderFixture.of(orderTable.getId(), OrderStatus.COMPLETION, LocalDateTime.now()));
+
+        // when
+        EventDispatchTrace trace = EventDispatchTracer.start("test");
+        try (trace) {
+            transactionTemplate.executeWithoutResult(status -> {
+                tableService.changeEmpty(orderTable.getId(), new ChangeEmptyTableRequest(true));
+                tableService.changeEmpty(orderTable.getId(), new ChangeEmptyTableRequest(false));
+            });
+        }
+
+        // then
+        List<Long> statementCounts = 리스너의_SQL_실행_수(trace, "OrderEventListener.validateOrdersCompleted");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(applicationEvents.stream(ValidateAllOrderCompletedEvent.class).count()).isEqualTo(2);
+            softly.assertThat(statementCounts).containsExactly(1L, 0L);
+        });
+    }
+
+    @Test
+    void 한_트랜잭션_안에서_테이블에_주문이_생기면_주문_완료_검증을_다시_실행한다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Menu menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+        ValidateAllOrderCompletedEvent event = new ValidateAllOrderCompletedEvent(orderTable.getId());
+        CreateOrderRequest request = new CreateOrderRequest(orderTable.getId(),
+                List.of(new OrderLineItemRequest(menu.getId(), 1L)));
+
+        // when, then
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            eventPublisher.publishEvent(event);
+            orderService.create(request);
+            Assertions.assertThatThrownBy(() -> eventPublisher.publishEvent(event))
+                    .isInstanceOf(OrderIsNotCompletedException.class);
+        });
+    }
+
+    @Test
+    void 다른_트랜잭션에서는_메뉴_존재_검증을_다시_실행한다() {
+        // given
+        MenuGroup menuGroup = menuGroupRepository.save(MenuGroupFixture.from("name"));
+        Menu menu = menuRepository.save(MenuFixture.of(menuGroup.getId(), "name", BigDecimal.valueOf(1000L)));
+        ValidateMenusExistEvent event = new ValidateMenusExistEvent(List.of(menu.getId()));
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        EventDispatchTrace trace = EventDispatchTracer.start("test");
+        try (trace) {
+            transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+            entityManagerFactory.getCache().evictAll();
+            transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+        }
+
+        // then
+        assertThat(리스너의_SQL_실행_수(trace, "MenuEventListener.validateMenusExist")).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void 다른_트랜잭션에서는_주문_완료_검증을_다시_실행한다() {
+        // given
+        OrderTable orderTable = orderTableRepository.save(OrderTableFixture.of(null, 1, false));
+        ValidateAllOrderCompletedEvent event = new ValidateAllOrderCompletedEvent(orderTable.getId());
+
+        // when
+        EventDispatchTrace trace = EventDispatchTracer.start("test");
+        try (trace) {
+            transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+            transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+        }
+
+        // then
+        assertThat(리스너의_SQL_실행_수(trace, "OrderEventListener.validateOrdersCompleted")).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void 실패한_검증은_기억하지_않는다() {
+        // given
+        ValidateMenusExistEvent event = new ValidateMenusExistEvent(List.of(Long.MAX_VALUE));
+
+        // when, then
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            Assertions.assertThatThrownBy(() -> eventPublisher.publishEvent(event))
+                    .isInstanceOf(MenuNotFoundException.class);
+            Assertions.assertThatThrownBy(() -> eventPublisher.publishEvent(event))
+                    .isInstanceOf(MenuNotFoundException.class);
+        });
+    }
+
+    private List<Long> 리스너의_SQL_실행_수(EventDispatchTrace trace, String listener) {
+        return trace.getEntries()
+                .stream()
+                .filter(each -> each.getListener().equals(listener))
+                .map(EventDispatchTraceEntry::getStatementCount)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,85 @@
+package kitchenpos.monitoring;
+
+import static kitchenpos.monitoring.SqlStatementHeaderResponseWrapper.MAX_REPEATED_COUNT_HEADER;
+import static kitchenpos.monitoring.SqlStatementHeaderResponseWrapper.STATEMENT_COUNT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.servlet.FilterChain;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@SuppressWarnings("NonAsciiCharacters")
+class SqlStatementCountingFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementMetrics sqlStatementMetrics = new SqlStatementMetrics(meterRegistry, 2);
+
+    @Test
+    void 응답_헤더를_켜면_요청에서_실행된_SQL_수를_헤더로_내려준다() throws Exception {
+        // given
+        SqlStatementCountingFilter filter = new SqlStatementCountingFilter(sqlStatementMetrics, true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tables");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, SQL을_실행하고_응답을_쓴다(3));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.getHeader(STATEMENT_COUNT_HEADER)).isEqualTo("3");
+            softly.assertThat(response.getHeader(MAX_REPEATED_COUNT_HEADER)).isEqualTo("3");
+            softly.assertThat(response.getContentAsString()).isEqualTo("[]");
+        });
+    }
+
+    @Test
+    void 응답_헤더를_끄면_헤더를_내려주지_않는다() throws Exception {
+        // given
+        SqlStatementCountingFilter filter = new SqlStatementCountingFilter(sqlStatementMetrics, false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tables");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, SQL을_실행하고_응답을_쓴다(1));
+
+        // then
+        assertThat(response.getHeader(STATEMENT_COUNT_HEADER)).isNull();
+    }
+
+    @Test
+    void 요청의_경로_패턴별로_SQL_실행_횟수와_반복_실행을_메트릭으로_기록한다() throws Exception {
+        // given
+        SqlStatementCountingFilter filter = new SqlStatementCountingFilter(sqlStatementMetrics, false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tables");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), SQL을_실행하고_응답을_쓴다(3));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(meterRegistry.get("kitchenpos.sql.statements")
+                    .tag("name", "GET /api/tables")
+                    .summary()
+                    .totalAmount()).isEqualTo(3.0);
+            softly.assertThat(meterRegistry.get("kitchenpos.sql.repeated")
+                    .tag("name", "GET /api/tables")
+                    .counter()
+                    .count()).isEqualTo(1.0);
+        });
+    }
+
+    private FilterChain SQL을_실행하고_응답을_쓴다(int statementCount) {
+        return (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tables");
+            for (int i = 0; i < statementCount; i++) {
+                SqlStatementRecorder.record("select * from order_table", 1_000L);
+            }
+            response.getWriter().write("[]");
+        };
+    }
+}
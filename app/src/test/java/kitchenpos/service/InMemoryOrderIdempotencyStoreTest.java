@@ -0,0 +1,150 @@
+package kitchenpos.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.dto.response.OrderResponse;
+import kitchenpos.exception.IdempotencyKeyInProgressException;
+import kitchenpos.exception.IdempotencyKeyReusedException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+class InMemoryOrderIdempotencyStoreTest {
+
+    private static final long TTL_MILLIS = 1_000L;
+    private static final long WAIT_TIMEOUT_MILLIS = 1_000L;
+    private static final String REQUEST_HASH = "hash";
+
+    private final AtomicLong currentTimeMillis = new AtomicLong();
+    private final AtomicInteger creationCount = new AtomicInteger();
+
+    @Test
+    void 만료되지_않은_멱등_키는_저장된_응답을_반환한다() {
+        // given
+        InMemoryOrderIdempotencyStore store = 저장소를_생성한다(10);
+        OrderResponse first = store.createOnce("key", REQUEST_HASH, this::주문을_생성한다);
+        currentTimeMillis.addAndGet(TTL_MILLIS - 1);
+
+        // when
+        OrderResponse retried = store.createOnce("key", REQUEST_HASH, this::주문을_생성한다);
+
+        // then
+        assertThat(retried).isSameAs(first);
+        assertThat(creationCount).hasValue(1);
+    }
+
+    @Test
+    void 만료된_멱등_키는_주문을_다시_생성한다() {
+        // given
+        InMemoryOrderIdempotencyStore store = 저장소를_생성한다(10);
+        OrderResponse first = store.createOnce("key", REQUEST_HASH, this::주문을_생성한다);
+        currentTimeMillis.addAndGet(TTL_MILLIS);
+
+        // when
+        OrderResponse retried = store.createOnce("key", REQUEST_HASH, this::주문을_생성한다);
+
+        // then
+        assertThat(retried).isNotSameAs(first);
+        assertThat(creationCount).hasValue(2);
+    }
+
+    @Test
+    void 최대_개수를_넘으면_가장_오래된_멱등_키부터_제거한다() {
+        // given
+        InMemoryOrderIdempotencyStore store = 저장소를_생성한다(2);
+        store.createOnce("first", REQUEST_HASH, this::주문을_생성한다);
+        store.createOnce("second", REQUEST_HASH, this::주문을_생성한다);
+
+        // when
+        store.createOnce("third", REQUEST_HASH, this::주문을_생성한다);
+        store.createOnce("first", REQUEST_HASH, this::주문을_생성한다);
+
+        // then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(creationCount).hasValue(4);
+    }
+
+    @Test
+    void 같은_멱등_키로_다른_요청을_보내면_예외를_던진다() {
+        // given
+        InMemoryOrderIdempotencyStore store = 저장소를_생성한다(10);
+        store.createOnce("key", REQUEST_HASH, this::주문을_생성한다);
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> store.createOnce("key", "other", this::주문을_생성한다))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(creationCount).hasValue(1);
+    }
+
+    @Test
+    void 처리_중인_멱등_키로_가득_차면_제거하지_않고_새_멱등_키를_거절한다() throws Exception {
+        // given
+        InMemoryOrderIdempotencyStore store = 저장소를_생성한다(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<OrderResponse> pending = executor.submit(() -> store.createOnce("first", REQUEST_HASH, () -> {
+            started.countDown();
+            기다린다(released);
+            return 주문을_생성한다();
+        }));
+        기다린다(started);
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> store.createOnce("second", REQUEST_HASH, this::주문을_생성한다))
+                .isInstanceOf(IdempotencyKeyInProgressException.class);
+
+        released.countDown();
+        OrderResponse first = pending.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        OrderResponse retried = store.createOnce("first", REQUEST_HASH, this::주문을_생성한다);
+        executor.shutdown();
+
+        assertThat(retried).isSameAs(first);
+        assertThat(creationCount).hasValue(1);
+    }
+
+    @Test
+    void 주문_생성_중_에러가_발생해도_멱등_키를_풀어준다() {
+        // given
+        InMemoryOrderIdempotencyStore store = 저장소를_생성한다(10);
+        Assertions.assertThatThrownBy(() -> store.createOnce("key", REQUEST_HASH, () -> {
+            throw new AssertionError();
+        })).isInstanceOf(AssertionError.class);
+
+        // when
+        OrderResponse retried = store.createOnce("key", REQUEST_HASH, this::주문을_생성한다);
+
+        // then
+        assertThat(retried).isNotNull();
+        assertThat(creationCount).hasValue(1);
+    }
+
+    private void 기다린다(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private InMemoryOrderIdempotencyStore 저장소를_생성한다(int maxSize) {
+        return new InMemoryOrderIdempotencyStore(maxSize, TTL_MILLIS, WAIT_TIMEOUT_MILLIS, currentTimeMillis::get);
+    }
+
+    private OrderResponse 주문을_생성한다() {
+        creationCount.incrementAndGet();
+        return OrderResponse.from(new Order(1L, OrderStatus.COOKING, LocalDateTime.now()), List.of());
+    }
+}
@@ -0,0 +1,110 @@
+package kitchenpos.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@SuppressWarnings("NonAsciiCharacters")
+class OrderFeedSubscriberTest {
+
+    private static final long SEND_TIMEOUT_MILLIS = 50L;
+    private static final long WAIT_TIMEOUT_MILLIS = 5_000L;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdownNow();
+    }
+
+    @Test
+    void 버퍼가_가득_차면_구독자를_닫고_남은_이벤트를_보내지_않는다() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(0));
+        Queue<Runnable> dispatched = new ArrayDeque<>();
+        OrderFeedSubscriber subscriber = new OrderFeedSubscriber(emitter, 1, dispatched::add, writer,
+                SEND_TIMEOUT_MILLIS);
+
+        // when
+        boolean first = subscriber.offer(OrderFeedEvent.reset(1L));
+        boolean overflowed = subscriber.offer(OrderFeedEvent.reset(2L));
+        디스패처_작업을_모두_실행한다(dispatched);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(first).isTrue();
+            softly.assertThat(overflowed).isFalse();
+            softly.assertThat(subscriber.isClosed()).isTrue();
+            softly.assertThat(emitter.sendCount).hasValue(0);
+            softly.assertThat(emitter.completeCount).hasValue(1);
+        });
+    }
+
+    @Test
+    void 전송이_제한_시간을_넘기면_전송을_취소하고_구독자를_닫는다() throws Exception {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(1));
+        OrderFeedSubscriber subscriber = new OrderFeedSubscriber(emitter, 10, Runnable::run, writer,
+                SEND_TIMEOUT_MILLIS);
+
+        // when
+        subscriber.offer(OrderFeedEvent.reset(1L));
+        boolean offeredAfterTimeout = subscriber.offer(OrderFeedEvent.reset(2L));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(subscriber.isClosed()).isTrue();
+            softly.assertThat(offeredAfterTimeout).isFalse();
+            softly.assertThat(emitter.sendCount).hasValue(1);
+            softly.assertThat(emitter.completeCount).hasValue(0);
+        });
+        assertThat(emitter.interrupted.await(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(writer.submit(() -> true).get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    private void 디스패처_작업을_모두_실행한다(Queue<Runnable> dispatched) {
+        while (!dispatched.isEmpty()) {
+            dispatched.poll().run();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch sendBlocker;
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private final AtomicInteger sendCount = new AtomicInteger();
+        private final AtomicInteger completeCount = new AtomicInteger();
+
+        RecordingEmitter(CountDownLatch sendBlocker) {
+            this.sendBlocker = sendBlocker;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws InterruptedIOException {
+            sendCount.incrementAndGet();
+            try {
+                sendBlocker.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new InterruptedIOException();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completeCount.incrementAndGet();
+            super.complete();
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package kitchenpos.supports;
 
 import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.service.MenuCatalog;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.support.AbstractTestExecutionListener;
@@ -9,22 +13,22 @@ public class DatabaseCleaner extends AbstractTestExecutionListener {
 
     @Override
     public void beforeTestMethod(TestContext testContext) {
-        JdbcTemplate jdbcTemplate = getJdbcTemplate(testContext);
-        List<String> tableNames = extractTableNames(jdbcTemplate);
-        cleanupWithTableNames(jdbcTemplate, tableNames);
+        cleanup(testContext.getApplicationContext());
     }
 
-    private JdbcTemplate getJdbcTemplate(TestContext testContext) {
-        return testContext.getApplicationContext()
-                .getBean(JdbcTemplate.class);
+    public static void cleanup(ApplicationContext applicationContext) {
+        JdbcTemplate jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        List<String> tableNames = extractTableNames(jdbcTemplate);
+        cleanupWithTableNames(jdbcTemplate, tableNames);
+        invalidateCaches(applicationContext);
     }
 
-    private List<String> extractTableNames(JdbcTemplate jdbcTemplate) {
+    private static List<String> extractTableNames(JdbcTemplate jdbcTemplate) {
         String sql = "SELECT table_name FROM information_schema.tables WHERE table_schema = 'PUBLIC'";
         return jdbcTemplate.queryForList(sql, String.class);
     }
 
-    private void cleanupWithTableNames(JdbcTemplate jdbcTemplate, List<String> tableNames) {
+    private static void cleanupWithTableNames(JdbcTemplate jdbcTemplate, List<String> tableNames) {
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
 
         String[] sqlForBatchUpdate = tableNames.stream()
@@ -34,4 +38,13 @@ public class DatabaseCleaner extends AbstractTestExecutionListener {
 
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
     }
+
+    private static void invalidateCaches(ApplicationContext applicationContext) {
+        applicationContext.getBean(MenuCatalog.class)
+                .invalidate();
+        applicationContext.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getCache()
+                .evictAllRegions();
+    }
 }
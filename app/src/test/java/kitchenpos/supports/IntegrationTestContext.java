@@ -1,5 +1,9 @@
 package kitchenpos.supports;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import kitchenpos.monitoring.SqlStatementRecorder;
+import kitchenpos.monitoring.SqlStatementScope;
 import kitchenpos.repository.MenuGroupRepository;
 import kitchenpos.repository.MenuRepository;
 import kitchenpos.repository.OrderRepository;
@@ -60,4 +64,21 @@ public abstract class IntegrationTestContext {
 
     @Autowired
     protected ApplicationEvents applicationEvents;
+
+    protected SqlStatementScope SQL_실행을_기록한다(Runnable operation) {
+        try (SqlStatementScope scope = SqlStatementRecorder.start("test")) {
+            operation.run();
+            return scope;
+        }
+    }
+
+    protected SqlStatementScope SQL_실행_횟수가_최대_횟수를_넘지_않는다(long maxStatementCount, Runnable operation) {
+        SqlStatementScope scope = SQL_실행을_기록한다(operation);
+
+        assertThat(scope.getStatementCount())
+                .as("SQL statements (most repeated %d times: %s)", scope.getMaxRepeatedCount(),
+                        scope.getMostRepeatedStatement())
+                .isLessThanOrEqualTo(maxStatementCount);
+        return scope;
+    }
 }
@@ -0,0 +1,52 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import kitchenpos.vo.PriceIsNegativeException;
+
+public class BigDecimalMoney {
+
+    public static final BigDecimalMoney ZERO = new BigDecimalMoney(BigDecimal.ZERO);
+
+    private final BigDecimal value;
+
+    public BigDecimalMoney(BigDecimal value) {
+        this.value = value;
+    }
+
+    public static BigDecimalMoney fromNonNegative(BigDecimal value) {
+        if (value.compareTo(BigDecimal.ZERO) < 0) {
+            throw new PriceIsNegativeException();
+        }
+        return new BigDecimalMoney(value);
+    }
+
+    public BigDecimalMoney add(BigDecimalMoney other) {
+        return new BigDecimalMoney(value.add(other.value));
+    }
+
+    public boolean isGreaterThan(BigDecimalMoney other) {
+        return value.compareTo(other.value) > 0;
+    }
+
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BigDecimalMoney money = (BigDecimalMoney) o;
+        return Objects.equals(value.doubleValue(), money.value.doubleValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value.doubleValue());
+    }
+}
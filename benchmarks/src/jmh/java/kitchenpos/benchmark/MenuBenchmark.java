@@ -0,0 +1,53 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.dto.response.MenuResponse;
+import kitchenpos.vo.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MenuBenchmark {
+
+    private static final long PRODUCT_PRICE = 1_000L;
+
+    @Param({"1", "5", "20"})
+    private int menuProductCount;
+
+    private Menu menu;
+    private List<MenuProduct> menuProducts;
+
+    @Setup
+    public void setUp() {
+        menuProducts = new ArrayList<>();
+        for (long productId = 1; productId <= menuProductCount; productId++) {
+            menuProducts.add(new MenuProduct(productId, 2L, new Money(BigDecimal.valueOf(PRODUCT_PRICE))));
+        }
+        menu = new Menu(1L, "menu", BigDecimal.valueOf(PRODUCT_PRICE * menuProductCount));
+        menu.setupMenuProducts(menuProducts);
+    }
+
+    @Benchmark
+    public Menu setupMenuProducts() {
+        menu.setupMenuProducts(menuProducts);
+        return menu;
+    }
+
+    @Benchmark
+    public MenuResponse menuResponseFrom() {
+        return MenuResponse.from(menu, menuProducts);
+    }
+}
@@ -0,0 +1,98 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.vo.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    @Param({"5", "20"})
+    private int menuProductCount;
+
+    private BigDecimal[] prices;
+    private long[] quantities;
+    private BigDecimalMoney[] bigDecimalPrices;
+    private Money[] longPrices;
+    private BigDecimalMoney bigDecimalMenuPrice;
+    private Money longMenuPrice;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        prices = new BigDecimal[menuProductCount];
+        quantities = new long[menuProductCount];
+        bigDecimalPrices = new BigDecimalMoney[menuProductCount];
+        longPrices = new Money[menuProductCount];
+        for (int i = 0; i < menuProductCount; i++) {
+            prices[i] = BigDecimal.valueOf(random.nextLong(100, 5_000_000), 2);
+            quantities[i] = random.nextLong(1, 5);
+            bigDecimalPrices[i] = new BigDecimalMoney(prices[i]);
+            longPrices[i] = new Money(prices[i]);
+        }
+        bigDecimalMenuPrice = new BigDecimalMoney(BigDecimal.valueOf(1_000_000L));
+        longMenuPrice = new Money(BigDecimal.valueOf(1_000_000L));
+    }
+
+    @Benchmark
+    public boolean bigDecimalActualPrice() {
+        BigDecimalMoney actualPrice = BigDecimalMoney.ZERO;
+        for (int i = 0; i < menuProductCount; i++) {
+            BigDecimal menuProductPrice = bigDecimalPrices[i].getValue()
+                    .multiply(BigDecimal.valueOf(quantities[i]));
+
+            actualPrice = actualPrice.add(BigDecimalMoney.fromNonNegative(menuProductPrice));
+        }
+        return bigDecimalMenuPrice.isGreaterThan(actualPrice);
+    }
+
+    @Benchmark
+    public boolean longActualPrice() {
+        Money actualPrice = Money.ZERO;
+        for (int i = 0; i < menuProductCount; i++) {
+            actualPrice = actualPrice.add(longPrices[i].multiply(quantities[i]));
+        }
+        return longMenuPrice.isGreaterThan(actualPrice);
+    }
+
+    @Benchmark
+    public BigDecimalMoney bigDecimalAdd() {
+        return bigDecimalPrices[0].add(bigDecimalPrices[menuProductCount - 1]);
+    }
+
+    @Benchmark
+    public Money longAdd() {
+        return longPrices[0].add(longPrices[menuProductCount - 1]);
+    }
+
+    @Benchmark
+    public boolean bigDecimalIsGreaterThan() {
+        return bigDecimalPrices[0].isGreaterThan(bigDecimalPrices[menuProductCount - 1]);
+    }
+
+    @Benchmark
+    public boolean longIsGreaterThan() {
+        return longPrices[0].isGreaterThan(longPrices[menuProductCount - 1]);
+    }
+
+    @Benchmark
+    public boolean bigDecimalEquals() {
+        return bigDecimalPrices[0].equals(bigDecimalPrices[menuProductCount - 1]);
+    }
+
+    @Benchmark
+    public boolean longEquals() {
+        return longPrices[0].equals(longPrices[menuProductCount - 1]);
+    }
+}
@@ -0,0 +1,51 @@
+package kitchenpos.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.dto.response.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int orderLineCount;
+
+    private Order order;
+    private List<OrderLineItem> orderLineItems;
+
+    @Setup
+    public void setUp() {
+        orderLineItems = new ArrayList<>();
+        for (long menuId = 1; menuId <= orderLineCount; menuId++) {
+            orderLineItems.add(new OrderLineItem(menuId, 1L));
+        }
+        order = new Order(1L, OrderStatus.COOKING, LocalDateTime.now());
+        order.setupOrderLineItems(orderLineItems);
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseFrom() {
+        return OrderResponse.from(order, orderLineItems);
+    }
+
+    @Benchmark
+    public Order setupOrderLineItems() {
+        order.setupOrderLineItems(orderLineItems);
+        return order;
+    }
+}
@@ -0,0 +1,42 @@
+package kitchenpos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.OrderTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderTableBenchmark {
+
+    private static final Long TABLE_GROUP_ID = 1L;
+
+    private OrderTable orderTable;
+
+    @Setup
+    public void setUp() {
+        orderTable = new OrderTable(null, 0, true);
+    }
+
+    @Benchmark
+    public OrderTable groupAndUngroup() {
+        orderTable.changeTableGroup(TABLE_GROUP_ID);
+        orderTable.changeNumberOfGuests(4);
+        orderTable.ungroup();
+        orderTable.changeEmpty(true);
+        return orderTable;
+    }
+
+    @Benchmark
+    public OrderTable changeEmpty() {
+        orderTable.changeEmpty(false);
+        orderTable.changeEmpty(true);
+        return orderTable;
+    }
+}
@@ -0,0 +1,25 @@
+package kitchenpos.vo;
+
+import java.math.BigDecimal;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class MinorUnitsConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long minorUnits) {
+        if (minorUnits == null) {
+            return null;
+        }
+        return Money.toDecimal(minorUnits);
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        return Money.toMinorUnits(value);
+    }
+}
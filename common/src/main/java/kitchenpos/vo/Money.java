@@ -1,22 +1,29 @@
 package kitchenpos.vo;
 
 import java.math.BigDecimal;
-import java.util.Objects;
+import javax.persistence.Convert;
 import javax.persistence.Embeddable;
 
 @Embeddable
 public class Money {
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    static final int SCALE = 2;
 
-    private BigDecimal value;
+    public static final Money ZERO = new Money(0L);
+
+    @Convert(converter = MinorUnitsConverter.class)
+    private long value;
 
     protected Money() {
     }
 
     public Money(BigDecimal value) {
         validatePriceIsNonNull(value);
-        this.value = value;
+        this.value = toMinorUnits(value);
+    }
+
+    private Money(long minorUnits) {
+        this.value = minorUnits;
     }
 
     public static Money fromNonNegative(BigDecimal value) {
@@ -26,6 +33,10 @@ public class Money {
         return new Money(value);
     }
 
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
     private static void validatePriceIsNonNull(BigDecimal price) {
         if (price == null) {
             throw new PriceIsNotProvidedException();
@@ -33,23 +44,58 @@ public class Money {
     }
 
     private static void validatePriceIsNotNegative(BigDecimal price) {
-        if (price.compareTo(BigDecimal.ZERO) < 0) {
+        if (price.signum() < 0) {
             throw new PriceIsNegativeException();
         }
     }
 
+    static long toMinorUnits(BigDecimal value) {
+        if (value.stripTrailingZeros().scale() > SCALE) {
+            throw new PriceScaleExceededException();
+        }
+        try {
+            return value.movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new MoneyOverflowException();
+        }
+    }
+
+    static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
     public Money add(Money other) {
-        return new Money(value.add(other.value));
+        try {
+            return new Money(Math.addExact(value, other.value));
+        } catch (ArithmeticException e) {
+            throw new MoneyOverflowException();
+        }
+    }
+
+    public Money multiply(long multiplier) {
+        try {
+            return new Money(Math.multiplyExact(value, multiplier));
+        } catch (ArithmeticException e) {
+            throw new MoneyOverflowException();
+        }
     }
 
     public boolean isGreaterThan(Money other) {
-        return value.compareTo(other.value) > 0;
+        return value > other.value;
     }
 
-    public BigDecimal getValue() {
+    public boolean isNegative() {
+        return value < 0;
+    }
+
+    public long getMinorUnits() {
         return value;
     }
 
+    public BigDecimal getValue() {
+        return toDecimal(value);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -59,11 +105,11 @@ public class Money {
             return false;
         }
         Money money = (Money) o;
-        return Objects.equals(value.doubleValue(), money.value.doubleValue());
+        return value == money.value;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value.doubleValue());
+        return Long.hashCode(value);
     }
 }
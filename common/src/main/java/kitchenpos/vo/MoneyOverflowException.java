@@ -0,0 +1,10 @@
+package kitchenpos.vo;
+
+public class MoneyOverflowException extends RuntimeException {
+
+    private static final String MESSAGE = "가격이 표현할 수 있는 범위를 벗어났습니다.";
+
+    public MoneyOverflowException() {
+        super(MESSAGE);
+    }
+}
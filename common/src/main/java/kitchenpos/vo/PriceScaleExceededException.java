@@ -0,0 +1,10 @@
+package kitchenpos.vo;
+
+public class PriceScaleExceededException extends RuntimeException {
+
+    private static final String MESSAGE = "가격은 소수점 둘째 자리까지만 표현할 수 있습니다.";
+
+    public PriceScaleExceededException() {
+        super(MESSAGE);
+    }
+}
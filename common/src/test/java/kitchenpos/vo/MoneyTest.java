@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import kitchenpos.vo.Money;
+import kitchenpos.vo.MoneyOverflowException;
 import kitchenpos.vo.PriceIsNegativeException;
 import kitchenpos.vo.PriceIsNotProvidedException;
+import kitchenpos.vo.PriceScaleExceededException;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
@@ -39,7 +42,7 @@ class MoneyTest {
         Money result = money.add(other);
 
         // then
-        assertThat(result.getValue()).isEqualTo(BigDecimal.valueOf(2001L));
+        assertThat(result.getValue()).isEqualTo(new BigDecimal("2001.00"));
     }
 
     @Test
@@ -54,4 +57,51 @@ class MoneyTest {
         // then
         Assertions.assertThat(result).isFalse();
     }
+
+    @Test
+    void 돈에_수량을_곱할_수_있다() {
+        // given
+        Money money = new Money(new BigDecimal("1000.50"));
+
+        // when
+        Money result = money.multiply(3L);
+
+        // then
+        assertThat(result.getValue()).isEqualTo(new BigDecimal("3001.50"));
+    }
+
+    @Test
+    void 더하거나_곱한_결과가_표현할_수_있는_범위를_벗어나면_예외를_던진다() {
+        // given
+        Money money = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        // when, then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> money.add(Money.ofMinorUnits(1L)))
+                    .isInstanceOf(MoneyOverflowException.class);
+            softly.assertThatThrownBy(() -> money.multiply(2L))
+                    .isInstanceOf(MoneyOverflowException.class);
+        });
+    }
+
+    @Test
+    void 소수점_셋째_자리_이하의_가격은_표현할_수_없다() {
+        // given, when, then
+        Assertions.assertThatThrownBy(() -> new Money(new BigDecimal("0.001")))
+                .isInstanceOf(PriceScaleExceededException.class);
+    }
+
+    @Test
+    void 표현_방식이_달라도_같은_금액이면_동등하다() {
+        // given
+        Money money = new Money(new BigDecimal("1000"));
+        Money other = new Money(new BigDecimal("1000.00"));
+
+        // when, then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(money).isEqualTo(other);
+            softly.assertThat(money).hasSameHashCodeAs(other);
+            softly.assertThat(money.getMinorUnits()).isEqualTo(100_000L);
+        });
+    }
 }
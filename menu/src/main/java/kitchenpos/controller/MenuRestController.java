@@ -8,6 +8,7 @@ import kitchenpos.dto.response.MenuResponse;
 import kitchenpos.service.MenuService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -37,4 +38,12 @@ public class MenuRestController {
         return ResponseEntity.ok()
                 .body(response);
     }
+
+    @GetMapping("/api/menus/{menuId}")
+    public ResponseEntity<MenuResponse> findById(@PathVariable Long menuId) {
+        MenuResponse response = menuService.findById(menuId);
+
+        return ResponseEntity.ok()
+                .body(response);
+    }
 }
@@ -13,16 +13,22 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import kitchenpos.exception.MenuPriceIsBiggerThanActualPriceException;
 import kitchenpos.vo.Money;
+import kitchenpos.vo.PriceIsNegativeException;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Table(name = "menu")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu")
 public class Menu {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_seq_generator")
+    @SequenceGenerator(name = "menu_seq_generator", sequenceName = "menu_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "menu_group_id")
@@ -32,6 +38,7 @@ public class Menu {
 
     @OneToMany(cascade = CascadeType.PERSIST)
     @JoinColumn(name = "menu_id", nullable = false)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu.menu-products")
     private List<MenuProduct> menuProducts = new ArrayList<>();
 
     @Embedded
@@ -63,14 +70,20 @@ public class Menu {
     private Money calculateActualPrice(List<MenuProduct> menuProducts) {
         Money actualPrice = Money.ZERO;
         for (MenuProduct menuProduct : menuProducts) {
-            BigDecimal menuProductPrice = menuProduct.getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
+            Money menuProductPrice = menuProduct.calculateAmount();
+            validatePriceIsNotNegative(menuProductPrice);
 
-            actualPrice = actualPrice.add(Money.fromNonNegative(menuProductPrice));
+            actualPrice = actualPrice.add(menuProductPrice);
         }
         return actualPrice;
     }
 
+    private void validatePriceIsNotNegative(Money price) {
+        if (price.isNegative()) {
+            throw new PriceIsNegativeException();
+        }
+    }
+
     public Long getId() {
         return id;
     }
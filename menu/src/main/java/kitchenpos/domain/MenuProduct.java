@@ -8,15 +8,20 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import kitchenpos.vo.Money;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Table(name = "menu_product")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu-product")
 public class MenuProduct {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_product_seq_generator")
+    @SequenceGenerator(name = "menu_product_seq_generator", sequenceName = "menu_product_seq", allocationSize = 50)
     private Long seq;
 
     @Column(name = "product_id")
@@ -52,4 +57,8 @@ public class MenuProduct {
     public BigDecimal getPrice() {
         return productPriceSnapshot.getValue();
     }
+
+    public Money calculateAmount() {
+        return productPriceSnapshot.multiply(quantity);
+    }
 }
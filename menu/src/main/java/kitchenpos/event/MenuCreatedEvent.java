@@ -0,0 +1,16 @@
+package kitchenpos.event;
+
+import kitchenpos.dto.response.MenuResponse;
+
+public class MenuCreatedEvent {
+
+    private final MenuResponse menu;
+
+    public MenuCreatedEvent(MenuResponse menu) {
+        this.menu = menu;
+    }
+
+    public MenuResponse getMenu() {
+        return menu;
+    }
+}
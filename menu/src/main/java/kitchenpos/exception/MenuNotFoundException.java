@@ -1,5 +1,7 @@
 package kitchenpos.exception;
 
+import java.util.List;
+
 public class MenuNotFoundException extends RuntimeException {
 
     private static final String MESSAGE = "메뉴를 찾을 수 없습니다.";
@@ -7,4 +9,8 @@ public class MenuNotFoundException extends RuntimeException {
     public MenuNotFoundException() {
         super(MESSAGE);
     }
+
+    public MenuNotFoundException(List<Long> menuIds) {
+        super(MESSAGE + " 메뉴 아이디: " + menuIds);
+    }
 }
@@ -1,8 +1,12 @@
 package kitchenpos.repository;
 
+import java.util.List;
 import kitchenpos.domain.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
 
+    @Query("select distinct m from Menu m left join fetch m.menuProducts order by m.id")
+    List<Menu> findAllWithMenuProducts();
 }
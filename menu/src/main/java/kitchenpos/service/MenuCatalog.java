@@ -0,0 +1,108 @@
+package kitchenpos.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import kitchenpos.domain.Menu;
+import kitchenpos.dto.response.MenuResponse;
+import kitchenpos.event.MenuCreatedEvent;
+import kitchenpos.repository.MenuRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class MenuCatalog {
+
+    private final MenuRepository menuRepository;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final AtomicLong rebuildCount = new AtomicLong();
+    private final AtomicLong lastRebuildNanos = new AtomicLong();
+    private final AtomicLong totalRebuildNanos = new AtomicLong();
+
+    private volatile MenuCatalogSnapshot snapshot;
+
+    public MenuCatalog(MenuRepository menuRepository) {
+        this.menuRepository = menuRepository;
+    }
+
+    public List<MenuResponse> findAll() {
+        return getSnapshot().getMenus();
+    }
+
+    public Optional<MenuResponse> findById(Long menuId) {
+        return Optional.ofNullable(getSnapshot().getMenu(menuId));
+    }
+
+    private MenuCatalogSnapshot getSnapshot() {
+        MenuCatalogSnapshot current = snapshot;
+        if (current != null) {
+            hitCount.increment();
+            return current;
+        }
+        missCount.increment();
+        return rebuild();
+    }
+
+    private synchronized MenuCatalogSnapshot rebuild() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long startedAt = System.nanoTime();
+        List<MenuResponse> menus = menuRepository.findAllWithMenuProducts()
+                .stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        snapshot = MenuCatalogSnapshot.from(menus);
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        rebuildCount.incrementAndGet();
+        lastRebuildNanos.set(elapsedNanos);
+        totalRebuildNanos.addAndGet(elapsedNanos);
+        return snapshot;
+    }
+
+    private MenuResponse toResponse(Menu menu) {
+        return MenuResponse.from(menu, menu.getMenuProducts());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void add(MenuCreatedEvent event) {
+        if (snapshot != null) {
+            snapshot = snapshot.with(event.getMenu());
+        }
+    }
+
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount.get();
+    }
+
+    public long getLastRebuildNanos() {
+        return lastRebuildNanos.get();
+    }
+
+    public long getTotalRebuildNanos() {
+        return totalRebuildNanos.get();
+    }
+
+    public int getMenuCount() {
+        MenuCatalogSnapshot current = snapshot;
+        return current == null ? 0 : current.size();
+    }
+}
@@ -0,0 +1,46 @@
+package kitchenpos.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import kitchenpos.dto.response.MenuResponse;
+
+class MenuCatalogSnapshot {
+
+    private final List<MenuResponse> menus;
+    private final Map<Long, MenuResponse> menusById;
+
+    private MenuCatalogSnapshot(TreeMap<Long, MenuResponse> menusById) {
+        this.menus = Collections.unmodifiableList(new ArrayList<>(menusById.values()));
+        this.menusById = Collections.unmodifiableMap(menusById);
+    }
+
+    static MenuCatalogSnapshot from(List<MenuResponse> menus) {
+        TreeMap<Long, MenuResponse> menusById = new TreeMap<>();
+        for (MenuResponse menu : menus) {
+            menusById.put(menu.getId(), menu);
+        }
+        return new MenuCatalogSnapshot(menusById);
+    }
+
+    MenuCatalogSnapshot with(MenuResponse menu) {
+        TreeMap<Long, MenuResponse> menusById = new TreeMap<>(this.menusById);
+        menusById.put(menu.getId(), menu);
+
+        return new MenuCatalogSnapshot(menusById);
+    }
+
+    List<MenuResponse> getMenus() {
+        return menus;
+    }
+
+    MenuResponse getMenu(Long menuId) {
+        return menusById.get(menuId);
+    }
+
+    int size() {
+        return menus.size();
+    }
+}
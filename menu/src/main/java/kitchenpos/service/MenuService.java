@@ -1,13 +1,24 @@
 package kitchenpos.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Product;
 import kitchenpos.dto.request.CreateMenuRequest;
 import kitchenpos.dto.request.MenuProductRequest;
 import kitchenpos.dto.response.MenuResponse;
+import kitchenpos.event.MenuCreatedEvent;
 import kitchenpos.event.ValidateMenuGroupExistsEvent;
 import kitchenpos.exception.MenuNotFoundException;
 import kitchenpos.exception.ProductNotFoundException;
@@ -16,6 +27,7 @@ import kitchenpos.repository.ProductRepository;
 import kitchenpos.vo.Money;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -25,12 +37,16 @@ public class MenuService {
     private final ApplicationEventPublisher eventPublisher;
     private final MenuRepository menuRepository;
     private final ProductRepository productRepository;
+    private final MenuCatalog menuCatalog;
+    private final EntityManager entityManager;
 
     public MenuService(ApplicationEventPublisher eventPublisher, MenuRepository menuRepository,
-            ProductRepository productRepository) {
+            ProductRepository productRepository, MenuCatalog menuCatalog, EntityManager entityManager) {
         this.eventPublisher = eventPublisher;
         this.menuRepository = menuRepository;
         this.productRepository = productRepository;
+        this.menuCatalog = menuCatalog;
+        this.entityManager = entityManager;
     }
 
     @Transactional
@@ -39,7 +55,9 @@ public class MenuService {
         List<MenuProduct> menuProducts = setupMenuProducts(request, menu);
         menuRepository.save(menu);
 
-        return MenuResponse.from(menu, menuProducts);
+        MenuResponse response = MenuResponse.from(menu, menuProducts);
+        eventPublisher.publishEvent(new MenuCreatedEvent(response));
+        return response;
     }
 
     private Menu saveMenu(CreateMenuRequest request) {
@@ -48,32 +66,92 @@ public class MenuService {
     }
 
     private List<MenuProduct> setupMenuProducts(CreateMenuRequest request, Menu menu) {
+        Map<Long, Product> productsById = findProducts(request.getMenuProducts());
         List<MenuProduct> menuProducts = request.getMenuProducts().stream()
-                .map(this::createMenuProduct)
+                .map(each -> createMenuProduct(each, productsById.get(each.getProductId())))
                 .collect(Collectors.toList());
         menu.setupMenuProducts(menuProducts);
 
         return menuProducts;
     }
 
-    private MenuProduct createMenuProduct(MenuProductRequest menuProductRequest) {
-        Product product = productRepository.findById(menuProductRequest.getProductId())
-                .orElseThrow(ProductNotFoundException::new);
+    private Map<Long, Product> findProducts(List<MenuProductRequest> menuProductRequests) {
+        List<Long> productIds = menuProductRequests.stream()
+                .map(MenuProductRequest::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Product> productsById = productRepository.findAllById(productIds)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        validateProductsExist(productIds, productsById);
+
+        return productsById;
+    }
+
+    private void validateProductsExist(List<Long> productIds, Map<Long, Product> productsById) {
+        List<Long> missingProductIds = productIds.stream()
+                .filter(each -> !productsById.containsKey(each))
+                .collect(Collectors.toList());
+
+        if (!missingProductIds.isEmpty()) {
+            throw new ProductNotFoundException(missingProductIds);
+        }
+    }
+
+    private MenuProduct createMenuProduct(MenuProductRequest menuProductRequest, Product product) {
         Money priceSnapshot = new Money(product.getPrice());
 
         return new MenuProduct(product.getId(), menuProductRequest.getQuantity(), priceSnapshot);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MenuResponse> findAll() {
-        List<Menu> menus = menuRepository.findAll();
+        return menuCatalog.findAll();
+    }
 
-        return menus.stream()
-                .map(each -> MenuResponse.from(each, each.getMenuProducts()))
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MenuResponse findById(Long menuId) {
+        return menuCatalog.findById(menuId)
+                .orElseThrow(MenuNotFoundException::new);
     }
 
     public void validateMenuExists(Long menuId) {
         menuRepository.findById(menuId)
                 .orElseThrow(MenuNotFoundException::new);
     }
+
+    public void validateMenusExist(List<Long> menuIds) {
+        Set<Long> existingMenuIds = findExistingMenuIds(menuIds);
+        List<Long> missingMenuIds = menuIds.stream()
+                .distinct()
+                .filter(each -> !existingMenuIds.contains(each))
+                .collect(Collectors.toList());
+
+        if (!missingMenuIds.isEmpty()) {
+            throw new MenuNotFoundException(missingMenuIds);
+        }
+    }
+
+    public Set<Long> findExistingMenuIds(Collection<Long> menuIds) {
+        Set<Long> requestedMenuIds = new LinkedHashSet<>(menuIds);
+        if (requestedMenuIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        Set<Long> existingMenuIds = new HashSet<>();
+        List<Long> uncachedMenuIds = new ArrayList<>();
+        for (Long menuId : requestedMenuIds) {
+            if (menuId != null && cache.contains(Menu.class, menuId)) {
+                menuRepository.findById(menuId)
+                        .ifPresent(each -> existingMenuIds.add(each.getId()));
+            } else {
+                uncachedMenuIds.add(menuId);
+            }
+        }
+        if (!uncachedMenuIds.isEmpty()) {
+            menuRepository.findAllById(uncachedMenuIds)
+                    .forEach(each -> existingMenuIds.add(each.getId()));
+        }
+        return existingMenuIds;
+    }
 }
@@ -4,14 +4,19 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Table(name = "menu_group")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu-group")
 public class MenuGroup {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_group_seq_generator")
+    @SequenceGenerator(name = "menu_group_seq_generator", sequenceName = "menu_group_seq", allocationSize = 50)
     private Long id;
 
     private String name;
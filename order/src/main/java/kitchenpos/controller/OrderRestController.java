@@ -1,39 +1,77 @@
 package kitchenpos.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 import javax.validation.Valid;
 import kitchenpos.dto.request.ChangeOrderStatusRequest;
 import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.CreateOrdersRequest;
+import kitchenpos.dto.request.OrderSliceRequest;
+import kitchenpos.dto.response.CreateOrdersResponse;
 import kitchenpos.dto.response.OrderResponse;
+import kitchenpos.dto.response.OrderSliceResponse;
+import kitchenpos.service.IdempotentOrderService;
+import kitchenpos.service.OrderFeedService;
 import kitchenpos.service.OrderService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 public class OrderRestController {
 
+    private static final byte LINE_SEPARATOR = '\n';
+
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
+    private final OrderFeedService orderFeedService;
+    private final ObjectMapper objectMapper;
 
-    public OrderRestController(OrderService orderService) {
+    public OrderRestController(OrderService orderService, IdempotentOrderService idempotentOrderService,
+            OrderFeedService orderFeedService, ObjectMapper objectMapper) {
         this.orderService = orderService;
+        this.idempotentOrderService = idempotentOrderService;
+        this.orderFeedService = orderFeedService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/api/orders")
-    public ResponseEntity<OrderResponse> create(@Valid @RequestBody CreateOrderRequest request) {
-        OrderResponse response = orderService.create(request);
+    public ResponseEntity<OrderResponse> create(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequest request
+    ) {
+        OrderResponse response = idempotentOrderService.create(idempotencyKey, request);
         URI uri = URI.create("/api/orders/" + response.getId());
 
         return ResponseEntity.created(uri)
                 .body(response);
     }
 
-    @GetMapping("/api/orders")
+    @PostMapping("/api/orders/batch")
+    public ResponseEntity<CreateOrdersResponse> createAll(@Valid @RequestBody CreateOrdersRequest request) {
+        CreateOrdersResponse response = orderService.createAll(request);
+
+        return ResponseEntity.ok()
+                .body(response);
+    }
+
+    @GetMapping(value = "/api/orders", params = "!since")
     public ResponseEntity<List<OrderResponse>> findAll() {
         List<OrderResponse> response = orderService.findAll();
 
@@ -41,6 +79,54 @@ public class OrderRestController {
                 .body(response);
     }
 
+    @GetMapping(value = "/api/orders", params = "status")
+    public ResponseEntity<List<OrderResponse>> findAllByOrderStatus(
+            @RequestParam("status") List<String> orderStatuses,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime since
+    ) {
+        List<OrderResponse> response = orderService.findAllByOrderStatus(orderStatuses, since);
+
+        return ResponseEntity.ok()
+                .body(response);
+    }
+
+    @GetMapping("/api/orders/slice")
+    public ResponseEntity<OrderSliceResponse> findSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Long orderTableId,
+            @RequestParam(required = false) String status
+    ) {
+        OrderSliceRequest request = new OrderSliceRequest(cursor, limit, orderTableId, status);
+        OrderSliceResponse response = orderService.findSlice(request);
+
+        return ResponseEntity.ok()
+                .body(response);
+    }
+
+    @GetMapping(value = "/api/orders/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> orderService.exportAll(each -> writeLine(outputStream, each));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream outputStream, OrderResponse response) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(response));
+            outputStream.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @GetMapping(value = "/api/orders/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter feed(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return orderFeedService.subscribe(lastEventId);
+    }
+
     @PutMapping("/api/orders/{orderId}/order-status")
     public ResponseEntity<OrderResponse> changeOrderStatus(
             @PathVariable Long orderId,
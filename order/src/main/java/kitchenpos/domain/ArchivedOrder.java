@@ -0,0 +1,66 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+@Table(name = "orders_archive")
+@Entity
+@Immutable
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    @Column(name = "order_table_id")
+    private Long orderTableId;
+
+    @OneToMany
+    @JoinColumn(name = "order_id")
+    @OrderBy("seq")
+    private List<ArchivedOrderLineItem> orderLineItems = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private LocalDateTime orderedTime;
+
+    private LocalDateTime archivedTime;
+
+    protected ArchivedOrder() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public List<ArchivedOrderLineItem> getOrderLineItems() {
+        return orderLineItems;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public LocalDateTime getOrderedTime() {
+        return orderedTime;
+    }
+
+    public LocalDateTime getArchivedTime() {
+        return archivedTime;
+    }
+}
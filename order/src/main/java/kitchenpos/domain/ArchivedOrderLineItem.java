@@ -0,0 +1,36 @@
+package kitchenpos.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+@Table(name = "order_line_item_archive")
+@Entity
+@Immutable
+public class ArchivedOrderLineItem {
+
+    @Id
+    private Long seq;
+
+    @Column(name = "menu_id")
+    private Long menuId;
+
+    private long quantity;
+
+    protected ArchivedOrderLineItem() {
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
@@ -5,6 +5,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 @Table(name = "order_line_item")
@@ -12,7 +13,9 @@ import javax.persistence.Table;
 public class OrderLineItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_line_item_seq_generator")
+    @SequenceGenerator(name = "order_line_item_seq_generator", sequenceName = "order_line_item_seq",
+            allocationSize = 50)
     private Long seq;
 
     @Column(name = "menu_id")
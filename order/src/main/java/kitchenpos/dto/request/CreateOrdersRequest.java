@@ -0,0 +1,18 @@
+package kitchenpos.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.List;
+
+public class CreateOrdersRequest {
+
+    private List<CreateOrderRequest> orders;
+
+    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+    public CreateOrdersRequest(List<CreateOrderRequest> orders) {
+        this.orders = orders;
+    }
+
+    public List<CreateOrderRequest> getOrders() {
+        return orders;
+    }
+}
@@ -0,0 +1,56 @@
+package kitchenpos.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import kitchenpos.exception.InvalidOrderCursorException;
+
+public class OrderCursor {
+
+    private static final long FIRST_ID = 0L;
+
+    private final long afterId;
+
+    private OrderCursor(long afterId) {
+        this.afterId = afterId;
+    }
+
+    public static OrderCursor first() {
+        return new OrderCursor(FIRST_ID);
+    }
+
+    public static OrderCursor after(Long orderId) {
+        return new OrderCursor(orderId);
+    }
+
+    public static OrderCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return first();
+        }
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(encoded);
+            long afterId = Long.parseLong(new String(decoded, StandardCharsets.UTF_8));
+            validateAfterId(afterId);
+
+            return new OrderCursor(afterId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOrderCursorException();
+        }
+    }
+
+    private static void validateAfterId(long afterId) {
+        if (afterId < FIRST_ID) {
+            throw new InvalidOrderCursorException();
+        }
+    }
+
+    public String encode() {
+        byte[] raw = String.valueOf(afterId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw);
+    }
+
+    public long getAfterId() {
+        return afterId;
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.dto.request;
+
+public class OrderSliceRequest {
+
+    private final String cursor;
+    private final int limit;
+    private final Long orderTableId;
+    private final String orderStatus;
+
+    public OrderSliceRequest(String cursor, int limit, Long orderTableId, String orderStatus) {
+        this.cursor = cursor;
+        this.limit = limit;
+        this.orderTableId = orderTableId;
+        this.orderStatus = orderStatus;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+}
@@ -0,0 +1,40 @@
+package kitchenpos.dto.response;
+
+public class CreateOrderResultResponse {
+
+    private final int index;
+    private final boolean success;
+    private final OrderResponse order;
+    private final String errorMessage;
+
+    private CreateOrderResultResponse(int index, boolean success, OrderResponse order, String errorMessage) {
+        this.index = index;
+        this.success = success;
+        this.order = order;
+        this.errorMessage = errorMessage;
+    }
+
+    public static CreateOrderResultResponse succeeded(int index, OrderResponse order) {
+        return new CreateOrderResultResponse(index, true, order, null);
+    }
+
+    public static CreateOrderResultResponse failed(int index, String errorMessage) {
+        return new CreateOrderResultResponse(index, false, null, errorMessage);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public OrderResponse getOrder() {
+        return order;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
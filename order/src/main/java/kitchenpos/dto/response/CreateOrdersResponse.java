@@ -0,0 +1,16 @@
+package kitchenpos.dto.response;
+
+import java.util.List;
+
+public class CreateOrdersResponse {
+
+    private final List<CreateOrderResultResponse> results;
+
+    public CreateOrdersResponse(List<CreateOrderResultResponse> results) {
+        this.results = results;
+    }
+
+    public List<CreateOrderResultResponse> getResults() {
+        return results;
+    }
+}
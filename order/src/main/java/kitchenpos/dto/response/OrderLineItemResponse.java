@@ -1,5 +1,6 @@
 package kitchenpos.dto.response;
 
+import kitchenpos.domain.ArchivedOrderLineItem;
 import kitchenpos.domain.OrderLineItem;
 
 public class OrderLineItemResponse {
@@ -21,6 +22,11 @@ public class OrderLineItemResponse {
                 orderLineItem.getMenuId(), orderLineItem.getQuantity());
     }
 
+    public static OrderLineItemResponse from(Long orderId, ArchivedOrderLineItem orderLineItem) {
+        return new OrderLineItemResponse(orderLineItem.getSeq(), orderId,
+                orderLineItem.getMenuId(), orderLineItem.getQuantity());
+    }
+
     public Long getSeq() {
         return seq;
     }
@@ -3,6 +3,8 @@ package kitchenpos.dto.response;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import kitchenpos.domain.ArchivedOrder;
+import kitchenpos.domain.ArchivedOrderLineItem;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderLineItem;
 
@@ -32,6 +34,15 @@ public class OrderResponse {
                 order.getOrderedTime(), orderLineItemResponses);
     }
 
+    public static OrderResponse from(ArchivedOrder order, List<ArchivedOrderLineItem> orderLineItems) {
+        List<OrderLineItemResponse> orderLineItemResponses = orderLineItems.stream()
+                .map(each -> OrderLineItemResponse.from(order.getId(), each))
+                .collect(Collectors.toList());
+
+        return new OrderResponse(order.getId(), order.getOrderTableId(), order.getOrderStatus().name(),
+                order.getOrderedTime(), orderLineItemResponses);
+    }
+
     public Long getId() {
         return id;
     }
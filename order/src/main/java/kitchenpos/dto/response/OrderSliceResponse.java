@@ -0,0 +1,34 @@
+package kitchenpos.dto.response;
+
+import java.util.List;
+import kitchenpos.dto.request.OrderCursor;
+
+public class OrderSliceResponse {
+
+    private final List<OrderResponse> orders;
+    private final String nextCursor;
+
+    private OrderSliceResponse(List<OrderResponse> orders, String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    public static OrderSliceResponse of(List<OrderResponse> orders, int limit) {
+        boolean hasNext = orders.size() > limit;
+        List<OrderResponse> slice = hasNext ? orders.subList(0, limit) : orders;
+
+        if (!hasNext) {
+            return new OrderSliceResponse(slice, null);
+        }
+        OrderResponse last = slice.get(slice.size() - 1);
+        return new OrderSliceResponse(slice, OrderCursor.after(last.getId()).encode());
+    }
+
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,16 @@
+package kitchenpos.event;
+
+import kitchenpos.dto.response.OrderResponse;
+
+public class OrderChangedEvent {
+
+    private final OrderResponse order;
+
+    public OrderChangedEvent(OrderResponse order) {
+        this.order = order;
+    }
+
+    public OrderResponse getOrder() {
+        return order;
+    }
+}
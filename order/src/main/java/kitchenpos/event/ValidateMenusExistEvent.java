@@ -0,0 +1,16 @@
+package kitchenpos.event;
+
+import java.util.List;
+
+public class ValidateMenusExistEvent {
+
+    private final List<Long> menuIds;
+
+    public ValidateMenusExistEvent(List<Long> menuIds) {
+        this.menuIds = menuIds;
+    }
+
+    public List<Long> getMenuIds() {
+        return menuIds;
+    }
+}
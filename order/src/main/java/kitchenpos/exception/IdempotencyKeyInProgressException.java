@@ -0,0 +1,10 @@
+package kitchenpos.exception;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    private static final String MESSAGE = "같은 멱등 키로 처리 중인 주문이 있습니다.";
+
+    public IdempotencyKeyInProgressException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,10 @@
+package kitchenpos.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    private static final String MESSAGE = "멱등 키가 다른 주문 요청에 이미 사용되었습니다.";
+
+    public IdempotencyKeyReusedException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,10 @@
+package kitchenpos.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    private static final String MESSAGE = "멱등 키는 1자 이상 255자 이하여야 합니다.";
+
+    public InvalidIdempotencyKeyException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,10 @@
+package kitchenpos.exception;
+
+public class InvalidOrderBatchSizeException extends RuntimeException {
+
+    private static final String MESSAGE = "한 번에 생성할 수 있는 주문 수를 벗어났습니다.";
+
+    public InvalidOrderBatchSizeException(int lowerBound, int upperBound) {
+        super(MESSAGE + " 허용 범위: " + lowerBound + " ~ " + upperBound);
+    }
+}
@@ -0,0 +1,10 @@
+package kitchenpos.exception;
+
+public class InvalidOrderCursorException extends RuntimeException {
+
+    private static final String MESSAGE = "주문 조회 커서가 올바르지 않습니다.";
+
+    public InvalidOrderCursorException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,10 @@
+package kitchenpos.exception;
+
+public class InvalidOrderSliceLimitException extends RuntimeException {
+
+    private static final String MESSAGE = "한 번에 조회할 수 있는 주문 개수의 범위를 벗어났습니다.";
+
+    public InvalidOrderSliceLimitException() {
+        super(MESSAGE);
+    }
+}
@@ -1,5 +1,6 @@
 package kitchenpos.exception;
 
+import java.util.List;
 import org.springframework.remoting.RemoteTimeoutException;
 
 public class OrderIsNotCompletedException extends RemoteTimeoutException {
@@ -9,4 +10,8 @@ public class OrderIsNotCompletedException extends RemoteTimeoutException {
     public OrderIsNotCompletedException() {
         super(MESSAGE);
     }
+
+    public OrderIsNotCompletedException(List<Long> orderTableIds) {
+        super(MESSAGE + " 주문 테이블 아이디: " + orderTableIds);
+    }
 }
@@ -0,0 +1,12 @@
+package kitchenpos.exception;
+
+import java.util.List;
+
+public class OrderLineMenuNotFoundException extends RuntimeException {
+
+    private static final String MESSAGE = "주문 항목의 메뉴를 찾을 수 없습니다.";
+
+    public OrderLineMenuNotFoundException(List<Long> menuIds) {
+        super(MESSAGE + " 메뉴 아이디: " + menuIds);
+    }
+}
@@ -0,0 +1,10 @@
+package kitchenpos.exception;
+
+public class OrderTableUnavailableException extends RuntimeException {
+
+    private static final String MESSAGE = "존재하지 않거나 빈 테이블에는 주문할 수 없습니다.";
+
+    public OrderTableUnavailableException(Long orderTableId) {
+        super(MESSAGE + " 테이블 아이디: " + orderTableId);
+    }
+}
@@ -0,0 +1,44 @@
+package kitchenpos.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import kitchenpos.domain.ArchivedOrder;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    @Query("select distinct o from ArchivedOrder o left join fetch o.orderLineItems")
+    List<ArchivedOrder> findAllWithOrderLineItems();
+
+    @Query("select distinct o from ArchivedOrder o left join fetch o.orderLineItems where o.id in :orderIds")
+    List<ArchivedOrder> findAllWithOrderLineItemsByIdIn(List<Long> orderIds);
+
+    @Query("select distinct o from ArchivedOrder o left join fetch o.orderLineItems "
+            + "where o.orderStatus in :orderStatuses")
+    List<ArchivedOrder> findAllWithOrderLineItemsByOrderStatusIn(List<OrderStatus> orderStatuses);
+
+    @Query("select distinct o from ArchivedOrder o left join fetch o.orderLineItems "
+            + "where o.orderStatus in :orderStatuses and o.orderedTime >= :since")
+    List<ArchivedOrder> findAllWithOrderLineItemsByOrderStatusInAndOrderedTimeSince(List<OrderStatus> orderStatuses,
+            LocalDateTime since);
+
+    @Query("select o from ArchivedOrder o"
+            + " where o.id > :afterId"
+            + " and (:orderTableId is null or o.orderTableId = :orderTableId)"
+            + " and (:orderStatus is null or o.orderStatus = :orderStatus)"
+            + " order by o.id")
+    List<ArchivedOrder> findSliceAfter(long afterId, Long orderTableId, OrderStatus orderStatus, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = OrderRepository.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = OrderRepository.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o, l from ArchivedOrder o left join o.orderLineItems l order by o.id, l.seq")
+    Stream<Object[]> streamAllWithOrderLineItems();
+}
@@ -1,15 +1,67 @@
 package kitchenpos.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
+    String HINT_READ_ONLY = "org.hibernate.readOnly";
+
+    @Query("select distinct o from Order o left join fetch o.orderLineItems")
+    List<Order> findAllWithOrderLineItems();
+
+    @Query("select distinct o from Order o left join fetch o.orderLineItems where o.id in :orderIds")
+    List<Order> findAllWithOrderLineItemsByIdIn(List<Long> orderIds);
+
+    @Query("select distinct o from Order o left join fetch o.orderLineItems "
+            + "where o.orderStatus in :orderStatuses")
+    List<Order> findAllWithOrderLineItemsByOrderStatusIn(List<OrderStatus> orderStatuses);
+
+    @Query("select distinct o from Order o left join fetch o.orderLineItems "
+            + "where o.orderStatus in :orderStatuses and o.orderedTime >= :since")
+    List<Order> findAllWithOrderLineItemsByOrderStatusInAndOrderedTimeSince(List<OrderStatus> orderStatuses,
+            LocalDateTime since);
+
     @Query("select o from Order o where o.orderTableId = :orderTableId")
     List<Order> findByOrderTableId(Long orderTableId);
 
-    @Query("select o from Order o where o.orderTableId in :orderTableIds")
-    List<Order> findByOrderTableIdIn(List<Long> orderTableIds);
+    @Query("select o.orderStatus, count(o) from Order o"
+            + " where o.orderStatus in :orderStatuses"
+            + " group by o.orderStatus")
+    List<Object[]> countGroupByOrderStatusIn(List<OrderStatus> orderStatuses);
+
+    boolean existsByOrderTableIdAndOrderStatusNot(Long orderTableId, OrderStatus orderStatus);
+
+    @Query("select distinct o.orderTableId from Order o "
+            + "where o.orderTableId in :orderTableIds and o.orderStatus <> :orderStatus")
+    List<Long> findOrderTableIdsByOrderTableIdInAndOrderStatusNot(List<Long> orderTableIds, OrderStatus orderStatus);
+
+    @Query("select o from Order o"
+            + " where o.id > :afterId"
+            + " and (:orderTableId is null or o.orderTableId = :orderTableId)"
+            + " and (:orderStatus is null or o.orderStatus = :orderStatus)"
+            + " order by o.id")
+    List<Order> findSliceAfter(long afterId, Long orderTableId, OrderStatus orderStatus, Pageable pageable);
+
+    @Query("select o.id from Order o"
+            + " where o.orderStatus = :orderStatus and o.orderedTime < :before"
+            + " order by o.id")
+    List<Long> findIdsByOrderStatusAndOrderedTimeBefore(OrderStatus orderStatus, LocalDateTime before,
+            Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o, l from Order o left join o.orderLineItems l order by o.id, l.seq")
+    Stream<Object[]> streamAllWithOrderLineItems();
 }
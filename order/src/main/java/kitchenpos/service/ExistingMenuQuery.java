@@ -0,0 +1,9 @@
+package kitchenpos.service;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ExistingMenuQuery {
+
+    Set<Long> findExistingMenuIds(List<Long> menuIds);
+}
@@ -0,0 +1,60 @@
+package kitchenpos.service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.response.OrderResponse;
+import kitchenpos.exception.InvalidIdempotencyKeyException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class IdempotentOrderService {
+
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+    private static final String REQUEST_HASH_ALGORITHM = "SHA-256";
+
+    private final OrderService orderService;
+    private final OrderIdempotencyStore orderIdempotencyStore;
+
+    public IdempotentOrderService(OrderService orderService, OrderIdempotencyStore orderIdempotencyStore) {
+        this.orderService = orderService;
+        this.orderIdempotencyStore = orderIdempotencyStore;
+    }
+
+    public OrderResponse create(String idempotencyKey, CreateOrderRequest request) {
+        if (idempotencyKey == null) {
+            return orderService.create(request);
+        }
+        validateIdempotencyKey(idempotencyKey);
+
+        return orderIdempotencyStore.createOnce(idempotencyKey, hashOf(request), () -> orderService.create(request));
+    }
+
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+    }
+
+    private String hashOf(CreateOrderRequest request) {
+        String orderLineItems = Optional.ofNullable(request.getOrderLineItems())
+                .orElse(List.of())
+                .stream()
+                .map(each -> each.getMenuId() + "x" + each.getQuantity())
+                .collect(Collectors.joining(","));
+        String canonicalRequest = request.getOrderTableId() + ":" + orderLineItems;
+
+        try {
+            byte[] digest = MessageDigest.getInstance(REQUEST_HASH_ALGORITHM)
+                    .digest(canonicalRequest.getBytes(StandardCharsets.UTF_8));
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
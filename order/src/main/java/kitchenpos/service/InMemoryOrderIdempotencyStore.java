@@ -0,0 +1,159 @@
+package kitchenpos.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import kitchenpos.dto.response.OrderResponse;
+import kitchenpos.exception.IdempotencyKeyInProgressException;
+import kitchenpos.exception.IdempotencyKeyReusedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "kitchenpos.order-idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOrderIdempotencyStore implements OrderIdempotencyStore {
+
+    private final Map<String, StoredResponse> entries = new LinkedHashMap<>();
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long waitTimeoutMillis;
+    private final LongSupplier currentTimeMillis;
+
+    @Autowired
+    public InMemoryOrderIdempotencyStore(
+            @Value("${kitchenpos.order-idempotency.max-size:10000}") int maxSize,
+            @Value("${kitchenpos.order-idempotency.ttl-millis:86400000}") long ttlMillis,
+            @Value("${kitchenpos.order-idempotency.wait-timeout-millis:10000}") long waitTimeoutMillis
+    ) {
+        this(maxSize, ttlMillis, waitTimeoutMillis, System::currentTimeMillis);
+    }
+
+    InMemoryOrderIdempotencyStore(int maxSize, long ttlMillis, long waitTimeoutMillis,
+            LongSupplier currentTimeMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public OrderResponse createOnce(String idempotencyKey, String requestHash, Supplier<OrderResponse> creation) {
+        CompletableFuture<OrderResponse> created = new CompletableFuture<>();
+        CompletableFuture<OrderResponse> existing = putIfAbsent(idempotencyKey, requestHash, created);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            OrderResponse response = creation.get();
+            created.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (!created.isDone() || created.isCompletedExceptionally()) {
+                remove(idempotencyKey, created);
+                created.completeExceptionally(new IdempotencyKeyInProgressException());
+            }
+        }
+    }
+
+    private synchronized CompletableFuture<OrderResponse> putIfAbsent(String idempotencyKey, String requestHash,
+            CompletableFuture<OrderResponse> created) {
+        long now = currentTimeMillis.getAsLong();
+        evictExpired(now);
+
+        StoredResponse entry = entries.get(idempotencyKey);
+        if (entry != null) {
+            if (!entry.requestHash.equals(requestHash)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            return entry.response;
+        }
+        if (entries.size() >= maxSize) {
+            evictEldestCompleted();
+        }
+        entries.put(idempotencyKey, new StoredResponse(created, requestHash, now + ttlMillis));
+        return null;
+    }
+
+    private void evictExpired(long now) {
+        Iterator<StoredResponse> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            StoredResponse entry = iterator.next();
+            if (!entry.isExpired(now)) {
+                return;
+            }
+            if (entry.isCompleted()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void evictEldestCompleted() {
+        Iterator<StoredResponse> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isCompleted()) {
+                iterator.remove();
+                return;
+            }
+        }
+        throw new IdempotencyKeyInProgressException();
+    }
+
+    private synchronized void remove(String idempotencyKey, CompletableFuture<OrderResponse> created) {
+        StoredResponse entry = entries.get(idempotencyKey);
+        if (entry != null && entry.response == created) {
+            entries.remove(idempotencyKey);
+        }
+    }
+
+    private OrderResponse await(CompletableFuture<OrderResponse> existing) {
+        try {
+            return existing.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException();
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static class StoredResponse {
+
+        private final CompletableFuture<OrderResponse> response;
+        private final String requestHash;
+        private final long expiresAt;
+
+        private StoredResponse(CompletableFuture<OrderResponse> response, String requestHash, long expiresAt) {
+            this.response = response;
+            this.requestHash = requestHash;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+
+        private boolean isCompleted() {
+            return response.isDone();
+        }
+    }
+}
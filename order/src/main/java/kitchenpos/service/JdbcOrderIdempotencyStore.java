@@ -0,0 +1,176 @@
+package kitchenpos.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import kitchenpos.dto.response.OrderResponse;
+import kitchenpos.exception.IdempotencyKeyInProgressException;
+import kitchenpos.exception.IdempotencyKeyReusedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "kitchenpos.order-idempotency.store", havingValue = "jdbc")
+public class JdbcOrderIdempotencyStore implements OrderIdempotencyStore, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcOrderIdempotencyStore.class);
+
+    private static final String FIND_SQL = "select order_id, request_hash from order_idempotency_key"
+            + " where idempotency_key = ? and created_time > ?";
+    private static final String DELETE_EXPIRED_KEY_SQL = "delete from order_idempotency_key"
+            + " where idempotency_key = ? and created_time <= ?";
+    private static final String PURGE_EXPIRED_SQL = "delete from order_idempotency_key"
+            + " where created_time <= ? fetch first ? rows only";
+    private static final String CLAIM_SQL = "insert into order_idempotency_key"
+            + " (idempotency_key, request_hash, created_time) values (?, ?, ?)";
+    private static final String COMPLETE_SQL = "update order_idempotency_key set order_id = ?"
+            + " where idempotency_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderService orderService;
+    private final long ttlMillis;
+    private final int purgeBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    public JdbcOrderIdempotencyStore(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            OrderService orderService,
+            @Value("${kitchenpos.order-idempotency.ttl-millis:86400000}") long ttlMillis,
+            @Value("${kitchenpos.order-idempotency.purge-batch-size:1000}") int purgeBatchSize,
+            @Value("${kitchenpos.order-idempotency.purge-interval-millis:600000}") long purgeIntervalMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderService = orderService;
+        this.ttlMillis = ttlMillis;
+        this.purgeBatchSize = purgeBatchSize;
+        this.scheduler = startScheduler(purgeIntervalMillis);
+    }
+
+    private ScheduledExecutorService startScheduler(long purgeIntervalMillis) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("order-idempotency-purge-");
+        threadFactory.setDaemon(true);
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        executor.scheduleWithFixedDelay(this::purge, purgeIntervalMillis, purgeIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void purge() {
+        try {
+            int purgedCount = purgeExpiredKeys();
+            if (purgedCount > 0) {
+                log.info("purged {} expired order idempotency keys", purgedCount);
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to purge expired order idempotency keys", e);
+        }
+    }
+
+    public int purgeExpiredKeys() {
+        Timestamp expiredBefore = expiredBefore(LocalDateTime.now());
+        int purgedCount = 0;
+        int batchCount;
+        do {
+            batchCount = jdbcTemplate.update(PURGE_EXPIRED_SQL, expiredBefore, purgeBatchSize);
+            purgedCount += batchCount;
+        } while (batchCount == purgeBatchSize);
+        return purgedCount;
+    }
+
+    @Override
+    public OrderResponse createOnce(String idempotencyKey, String requestHash, Supplier<OrderResponse> creation) {
+        OrderResponse created = findCreated(idempotencyKey, requestHash);
+        if (created != null) {
+            return created;
+        }
+        try {
+            return transactionTemplate.execute(status -> claimAndCreate(idempotencyKey, requestHash, creation));
+        } catch (DuplicateKeyException | PessimisticLockingFailureException e) {
+            return findCreatedByOtherRequest(idempotencyKey, requestHash);
+        }
+    }
+
+    private OrderResponse claimAndCreate(String idempotencyKey, String requestHash,
+            Supplier<OrderResponse> creation) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, idempotencyKey, expiredBefore(now));
+        jdbcTemplate.update(CLAIM_SQL, idempotencyKey, requestHash, Timestamp.valueOf(now));
+
+        OrderResponse response = creation.get();
+        jdbcTemplate.update(COMPLETE_SQL, response.getId(), idempotencyKey);
+        return response;
+    }
+
+    private OrderResponse findCreatedByOtherRequest(String idempotencyKey, String requestHash) {
+        OrderResponse created = findCreated(idempotencyKey, requestHash);
+        if (created == null) {
+            throw new IdempotencyKeyInProgressException();
+        }
+        return created;
+    }
+
+    private OrderResponse findCreated(String idempotencyKey, String requestHash) {
+        return transactionTemplate.execute(status -> {
+            StoredKey storedKey = findStoredKey(idempotencyKey);
+            if (storedKey == null) {
+                return null;
+            }
+            if (!storedKey.requestHash.equals(requestHash)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            if (storedKey.orderId == null) {
+                return null;
+            }
+            return orderService.findById(storedKey.orderId);
+        });
+    }
+
+    private StoredKey findStoredKey(String idempotencyKey) {
+        List<StoredKey> storedKeys = jdbcTemplate.query(FIND_SQL,
+                (resultSet, rowNum) -> new StoredKey(resultSet.getObject("order_id", Long.class),
+                        resultSet.getString("request_hash")),
+                idempotencyKey, expiredBefore(LocalDateTime.now()));
+        if (storedKeys.isEmpty()) {
+            return null;
+        }
+        return storedKeys.get(0);
+    }
+
+    private Timestamp expiredBefore(LocalDateTime now) {
+        return Timestamp.valueOf(now.minus(ttlMillis, ChronoUnit.MILLIS));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private static class StoredKey {
+
+        private final Long orderId;
+        private final String requestHash;
+
+        private StoredKey(Long orderId, String requestHash) {
+            this.orderId = orderId;
+            this.requestHash = requestHash;
+        }
+    }
+}
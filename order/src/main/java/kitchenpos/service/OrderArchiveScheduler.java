@@ -0,0 +1,79 @@
+package kitchenpos.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderArchiveScheduler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveScheduler.class);
+
+    private final OrderArchiveService orderArchiveService;
+    private final long minAgeDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final ScheduledExecutorService scheduler;
+
+    public OrderArchiveScheduler(
+            OrderArchiveService orderArchiveService,
+            @Value("${kitchenpos.order-archive.enabled:false}") boolean enabled,
+            @Value("${kitchenpos.order-archive.min-age-days:30}") long minAgeDays,
+            @Value("${kitchenpos.order-archive.batch-size:500}") int batchSize,
+            @Value("${kitchenpos.order-archive.max-batches-per-run:100}") int maxBatchesPerRun,
+            @Value("${kitchenpos.order-archive.interval-millis:600000}") long intervalMillis
+    ) {
+        this.orderArchiveService = orderArchiveService;
+        this.minAgeDays = minAgeDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.scheduler = enabled ? startScheduler(intervalMillis) : null;
+    }
+
+    private ScheduledExecutorService startScheduler(long intervalMillis) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("order-archive-");
+        threadFactory.setDaemon(true);
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        executor.scheduleWithFixedDelay(this::run, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void run() {
+        try {
+            int archivedCount = archiveCompletedOrders();
+            if (archivedCount > 0) {
+                log.info("archived {} completed orders", archivedCount);
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to archive completed orders", e);
+        }
+    }
+
+    public int archiveCompletedOrders() {
+        LocalDateTime orderedBefore = LocalDateTime.now().minusDays(minAgeDays);
+        int archivedCount = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int batchCount = orderArchiveService.archiveCompletedOrders(orderedBefore, batchSize);
+            archivedCount += batchCount;
+            if (batchCount < batchSize) {
+                break;
+            }
+        }
+        return archivedCount;
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
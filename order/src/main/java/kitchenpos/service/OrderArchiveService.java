@@ -0,0 +1,63 @@
+package kitchenpos.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.EntityManager;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.repository.OrderRepository;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class OrderArchiveService {
+
+    private static final String ARCHIVE_ORDERS_SQL = "insert into orders_archive"
+            + " (id, order_status, ordered_time, order_table_id, archived_time)"
+            + " select id, order_status, ordered_time, order_table_id, :archivedTime from orders"
+            + " where id in (:orderIds)";
+    private static final String ARCHIVE_ORDER_LINE_ITEMS_SQL = "insert into order_line_item_archive"
+            + " (seq, quantity, menu_id, order_id)"
+            + " select seq, quantity, menu_id, order_id from order_line_item"
+            + " where order_id in (:orderIds)";
+    private static final String DELETE_ORDER_LINE_ITEMS_SQL = "delete from order_line_item"
+            + " where order_id in (:orderIds)";
+    private static final String DELETE_ORDERS_SQL = "delete from orders where id in (:orderIds)";
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+
+    public OrderArchiveService(OrderRepository orderRepository, EntityManager entityManager) {
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    public int archiveCompletedOrders(LocalDateTime orderedBefore, int batchSize) {
+        List<Long> orderIds = orderRepository.findIdsByOrderStatusAndOrderedTimeBefore(OrderStatus.COMPLETION,
+                orderedBefore, PageRequest.of(0, batchSize));
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        createNativeQuery(ARCHIVE_ORDERS_SQL, "orders_archive", orderIds)
+                .setParameter("archivedTime", LocalDateTime.now())
+                .executeUpdate();
+        createNativeQuery(ARCHIVE_ORDER_LINE_ITEMS_SQL, "order_line_item_archive", orderIds)
+                .executeUpdate();
+        createNativeQuery(DELETE_ORDER_LINE_ITEMS_SQL, "order_line_item", orderIds)
+                .executeUpdate();
+        createNativeQuery(DELETE_ORDERS_SQL, "orders", orderIds)
+                .executeUpdate();
+
+        return orderIds.size();
+    }
+
+    private NativeQuery<?> createNativeQuery(String sql, String querySpace, List<Long> orderIds) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(querySpace);
+        query.setParameter("orderIds", orderIds);
+        return query;
+    }
+}
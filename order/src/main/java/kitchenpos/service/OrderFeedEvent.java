@@ -0,0 +1,39 @@
+package kitchenpos.service;
+
+import kitchenpos.dto.response.OrderResponse;
+
+class OrderFeedEvent {
+
+    private static final String ORDER_EVENT_NAME = "order";
+    private static final String RESET_EVENT_NAME = "reset";
+
+    private final long id;
+    private final String name;
+    private final OrderResponse order;
+
+    private OrderFeedEvent(long id, String name, OrderResponse order) {
+        this.id = id;
+        this.name = name;
+        this.order = order;
+    }
+
+    static OrderFeedEvent order(long id, OrderResponse order) {
+        return new OrderFeedEvent(id, ORDER_EVENT_NAME, order);
+    }
+
+    static OrderFeedEvent reset(long id) {
+        return new OrderFeedEvent(id, RESET_EVENT_NAME, null);
+    }
+
+    long getId() {
+        return id;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    OrderResponse getOrder() {
+        return order;
+    }
+}
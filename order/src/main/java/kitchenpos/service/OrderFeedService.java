@@ -0,0 +1,114 @@
+package kitchenpos.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import kitchenpos.event.OrderChangedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+public class OrderFeedService implements DisposableBean {
+
+    private final Set<OrderFeedSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<OrderFeedEvent> replayBuffer = new ArrayDeque<>();
+    private final ExecutorService dispatcher;
+    private final ExecutorService writer;
+    private final int replaySize;
+    private final int clientBufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutMillis;
+    private long lastEventId;
+
+    public OrderFeedService(
+            @Value("${kitchenpos.order-feed.replay-size:1024}") int replaySize,
+            @Value("${kitchenpos.order-feed.client-buffer-size:256}") int clientBufferSize,
+            @Value("${kitchenpos.order-feed.timeout-millis:1800000}") long timeoutMillis,
+            @Value("${kitchenpos.order-feed.dispatcher-threads:4}") int dispatcherThreads,
+            @Value("${kitchenpos.order-feed.send-timeout-millis:5000}") long sendTimeoutMillis,
+            @Value("${kitchenpos.order-feed.writer-threads:16}") int writerThreads
+    ) {
+        this.replaySize = replaySize;
+        this.clientBufferSize = clientBufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, createThreadFactory("order-feed-"));
+        this.writer = Executors.newFixedThreadPool(writerThreads, createThreadFactory("order-feed-writer-"));
+    }
+
+    private CustomizableThreadFactory createThreadFactory(String threadNamePrefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        OrderFeedSubscriber subscriber = new OrderFeedSubscriber(emitter, clientBufferSize, dispatcher, writer,
+                sendTimeoutMillis);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        register(subscriber, lastEventId);
+        return emitter;
+    }
+
+    private synchronized void register(OrderFeedSubscriber subscriber, Long lastEventId) {
+        if (lastEventId != null) {
+            replay(subscriber, lastEventId);
+        }
+        if (!subscriber.isClosed()) {
+            subscribers.add(subscriber);
+        }
+    }
+
+    private void replay(OrderFeedSubscriber subscriber, long lastEventId) {
+        if (isMissedBeyondReplayBuffer(lastEventId)) {
+            subscriber.offer(OrderFeedEvent.reset(this.lastEventId));
+            return;
+        }
+        for (OrderFeedEvent event : replayBuffer) {
+            if (event.getId() > lastEventId && !subscriber.offer(event)) {
+                return;
+            }
+        }
+    }
+
+    private boolean isMissedBeyondReplayBuffer(long lastEventId) {
+        if (lastEventId == this.lastEventId) {
+            return false;
+        }
+        if (lastEventId > this.lastEventId) {
+            return true;
+        }
+        OrderFeedEvent oldest = replayBuffer.peekFirst();
+        return oldest == null || oldest.getId() > lastEventId + 1;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void publish(OrderChangedEvent event) {
+        OrderFeedEvent feedEvent = OrderFeedEvent.order(++lastEventId, event.getOrder());
+        replayBuffer.addLast(feedEvent);
+        if (replayBuffer.size() > replaySize) {
+            replayBuffer.removeFirst();
+        }
+        subscribers.removeIf(each -> !each.offer(feedEvent));
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(OrderFeedSubscriber::close);
+        subscribers.clear();
+        dispatcher.shutdown();
+        writer.shutdownNow();
+    }
+}
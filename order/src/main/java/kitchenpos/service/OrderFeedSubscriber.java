@@ -0,0 +1,141 @@
+package kitchenpos.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class OrderFeedSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<OrderFeedEvent> buffer;
+    private final Executor dispatcher;
+    private final ExecutorService writer;
+    private final long sendTimeoutMillis;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closing;
+    private volatile boolean stalled;
+    private volatile boolean completed;
+
+    OrderFeedSubscriber(SseEmitter emitter, int bufferSize, Executor dispatcher, ExecutorService writer,
+            long sendTimeoutMillis) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.dispatcher = dispatcher;
+        this.writer = writer;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    boolean offer(OrderFeedEvent event) {
+        if (closing) {
+            return false;
+        }
+        if (!buffer.offer(event)) {
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    void close() {
+        closing = true;
+        scheduleDrain();
+    }
+
+    boolean isClosed() {
+        return closing;
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            closing = true;
+            draining.set(false);
+        }
+    }
+
+    private void drain() {
+        try {
+            OrderFeedEvent event;
+            while (!closing && (event = buffer.poll()) != null) {
+                SseEventBuilder builder = toSseEvent(event);
+                if (!write(() -> {
+                    emitter.send(builder);
+                    return null;
+                })) {
+                    closing = true;
+                }
+            }
+            if (closing) {
+                complete();
+            }
+        } finally {
+            draining.set(false);
+        }
+        if (closing ? !completed : !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private SseEventBuilder toSseEvent(OrderFeedEvent event) {
+        SseEventBuilder builder = SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(event.getName());
+        if (event.getOrder() != null) {
+            builder.data(event.getOrder());
+        }
+        return builder;
+    }
+
+    private boolean write(Callable<Void> task) {
+        Future<Void> future;
+        try {
+            future = writer.submit(task);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        try {
+            future.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException e) {
+            return false;
+        } catch (TimeoutException e) {
+            cancel(future);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(future);
+            return false;
+        }
+    }
+
+    private void cancel(Future<Void> future) {
+        stalled = true;
+        future.cancel(true);
+    }
+
+    private void complete() {
+        if (completed) {
+            return;
+        }
+        completed = true;
+        buffer.clear();
+        if (!stalled) {
+            emitter.complete();
+        }
+    }
+}
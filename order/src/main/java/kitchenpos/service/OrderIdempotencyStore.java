@@ -0,0 +1,9 @@
+package kitchenpos.service;
+
+import java.util.function.Supplier;
+import kitchenpos.dto.response.OrderResponse;
+
+public interface OrderIdempotencyStore {
+
+    OrderResponse createOnce(String idempotencyKey, String requestHash, Supplier<OrderResponse> creation);
+}
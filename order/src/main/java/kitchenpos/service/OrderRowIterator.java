@@ -0,0 +1,68 @@
+package kitchenpos.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import kitchenpos.dto.response.OrderResponse;
+
+class OrderRowIterator<O, L> implements Iterator<OrderResponse> {
+
+    private final Iterator<Object[]> rows;
+    private final Function<O, Long> orderIdExtractor;
+    private final BiFunction<O, List<L>, OrderResponse> responseConverter;
+    private final Consumer<Object> detacher;
+    private Object[] pendingRow;
+
+    OrderRowIterator(Iterator<Object[]> rows, Function<O, Long> orderIdExtractor,
+            BiFunction<O, List<L>, OrderResponse> responseConverter, Consumer<Object> detacher) {
+        this.rows = rows;
+        this.orderIdExtractor = orderIdExtractor;
+        this.responseConverter = responseConverter;
+        this.detacher = detacher;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return pendingRow != null || rows.hasNext();
+    }
+
+    @Override
+    public OrderResponse next() {
+        Object[] row = pendingRow == null ? rows.next() : pendingRow;
+        pendingRow = null;
+
+        O order = orderOf(row);
+        Long orderId = orderIdExtractor.apply(order);
+        List<L> orderLineItems = new ArrayList<>();
+        addOrderLineItem(row, orderLineItems);
+
+        while (rows.hasNext()) {
+            Object[] nextRow = rows.next();
+            if (!orderId.equals(orderIdExtractor.apply(orderOf(nextRow)))) {
+                pendingRow = nextRow;
+                break;
+            }
+            addOrderLineItem(nextRow, orderLineItems);
+        }
+        OrderResponse response = responseConverter.apply(order, orderLineItems);
+
+        detacher.accept(order);
+        orderLineItems.forEach(detacher);
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private O orderOf(Object[] row) {
+        return (O) row[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addOrderLineItem(Object[] row, List<L> orderLineItems) {
+        if (row[1] != null) {
+            orderLineItems.add((L) row[1]);
+        }
+    }
+}
@@ -1,20 +1,48 @@
 package kitchenpos.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import kitchenpos.domain.ArchivedOrder;
+import kitchenpos.domain.ArchivedOrderLineItem;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.dto.request.ChangeOrderStatusRequest;
 import kitchenpos.dto.request.CreateOrderRequest;
+import kitchenpos.dto.request.CreateOrdersRequest;
+import kitchenpos.dto.request.OrderCursor;
 import kitchenpos.dto.request.OrderLineItemRequest;
+import kitchenpos.dto.request.OrderSliceRequest;
+import kitchenpos.dto.response.CreateOrderResultResponse;
+import kitchenpos.dto.response.CreateOrdersResponse;
 import kitchenpos.dto.response.OrderResponse;
-import kitchenpos.event.ValidateMenuExistsEvent;
+import kitchenpos.dto.response.OrderSliceResponse;
+import kitchenpos.event.OrderChangedEvent;
+import kitchenpos.event.ValidateMenusExistEvent;
 import kitchenpos.event.ValidateOrderTableIsNotEmptyEvent;
+import kitchenpos.exception.InvalidOrderBatchSizeException;
+import kitchenpos.exception.InvalidOrderSliceLimitException;
+import kitchenpos.exception.OrderIsCompletedException;
+import kitchenpos.exception.OrderIsNotCompletedException;
+import kitchenpos.exception.OrderLineEmptyException;
+import kitchenpos.exception.OrderLineMenuNotFoundException;
 import kitchenpos.exception.OrderNotFoundException;
+import kitchenpos.exception.OrderTableUnavailableException;
+import kitchenpos.repository.ArchivedOrderRepository;
 import kitchenpos.repository.OrderRepository;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,12 +50,27 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class OrderService {
 
+    private static final int SLICE_LIMIT_LOWER_BOUND = 1;
+    private static final int SLICE_LIMIT_UPPER_BOUND = 100;
+    private static final int BATCH_SIZE_LOWER_BOUND = 1;
+    private static final int BATCH_SIZE_UPPER_BOUND = 100;
+
     private final ApplicationEventPublisher eventPublisher;
     private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final EntityManager entityManager;
+    private final OrderTableEmptinessQuery orderTableEmptinessQuery;
+    private final ExistingMenuQuery existingMenuQuery;
 
-    public OrderService(ApplicationEventPublisher eventPublisher, OrderRepository orderRepository) {
+    public OrderService(ApplicationEventPublisher eventPublisher, OrderRepository orderRepository,
+            ArchivedOrderRepository archivedOrderRepository, EntityManager entityManager,
+            OrderTableEmptinessQuery orderTableEmptinessQuery, ExistingMenuQuery existingMenuQuery) {
         this.eventPublisher = eventPublisher;
         this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.entityManager = entityManager;
+        this.orderTableEmptinessQuery = orderTableEmptinessQuery;
+        this.existingMenuQuery = existingMenuQuery;
     }
 
     @Transactional
@@ -35,7 +78,14 @@ public class OrderService {
         Order order = saveOrder(request);
         setupOrderLineItems(request, order);
 
-        return OrderResponse.from(order, order.getOrderLineItems());
+        return publishOrderChanged(order);
+    }
+
+    private OrderResponse publishOrderChanged(Order order) {
+        OrderResponse response = OrderResponse.from(order, order.getOrderLineItems());
+        eventPublisher.publishEvent(new OrderChangedEvent(response));
+
+        return response;
     }
 
     private Order saveOrder(CreateOrderRequest request) {
@@ -46,6 +96,7 @@ public class OrderService {
     }
 
     private void setupOrderLineItems(CreateOrderRequest request, Order order) {
+        validateMenusExist(request.getOrderLineItems());
         List<OrderLineItem> orderLineItems = request.getOrderLineItems()
                 .stream()
                 .map(this::createOrderLineItem)
@@ -54,32 +105,303 @@ public class OrderService {
         order.setupOrderLineItems(orderLineItems);
     }
 
+    private void validateMenusExist(List<OrderLineItemRequest> orderLineItemRequests) {
+        List<Long> menuIds = orderLineItemRequests.stream()
+                .map(OrderLineItemRequest::getMenuId)
+                .collect(Collectors.toList());
+
+        eventPublisher.publishEvent(new ValidateMenusExistEvent(menuIds));
+    }
+
     private OrderLineItem createOrderLineItem(OrderLineItemRequest orderLineItemRequest) {
-        eventPublisher.publishEvent(new ValidateMenuExistsEvent(orderLineItemRequest.getMenuId()));
         return new OrderLineItem(orderLineItemRequest.getMenuId(), orderLineItemRequest.getQuantity());
     }
 
+    @Transactional
+    public CreateOrdersResponse createAll(CreateOrdersRequest request) {
+        List<CreateOrderRequest> orderRequests = request.getOrders();
+        validateBatchSize(orderRequests);
+        Map<Long, Boolean> emptinessByOrderTableId = findOrderTableEmptiness(orderRequests);
+        Set<Long> existingMenuIds = findExistingMenuIds(orderRequests);
+
+        CreateOrderResultResponse[] results = new CreateOrderResultResponse[orderRequests.size()];
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+        for (int index = 0; index < orderRequests.size(); index++) {
+            try {
+                orders.add(createValidatedOrder(orderRequests.get(index), emptinessByOrderTableId, existingMenuIds));
+                orderIndexes.add(index);
+            } catch (OrderLineEmptyException | OrderTableUnavailableException | OrderLineMenuNotFoundException e) {
+                results[index] = CreateOrderResultResponse.failed(index, e.getMessage());
+            }
+        }
+        orderRepository.saveAll(orders);
+
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            int index = orderIndexes.get(i);
+            results[index] = CreateOrderResultResponse.succeeded(index, publishOrderChanged(order));
+        }
+        return new CreateOrdersResponse(Arrays.asList(results));
+    }
+
+    private void validateBatchSize(List<CreateOrderRequest> orderRequests) {
+        if (orderRequests == null
+                || orderRequests.size() < BATCH_SIZE_LOWER_BOUND
+                || orderRequests.size() > BATCH_SIZE_UPPER_BOUND) {
+            throw new InvalidOrderBatchSizeException(BATCH_SIZE_LOWER_BOUND, BATCH_SIZE_UPPER_BOUND);
+        }
+    }
+
+    private Map<Long, Boolean> findOrderTableEmptiness(List<CreateOrderRequest> orderRequests) {
+        List<Long> orderTableIds = orderRequests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateOrderRequest::getOrderTableId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        return orderTableEmptinessQuery.findEmptinessByIds(orderTableIds);
+    }
+
+    private Set<Long> findExistingMenuIds(List<CreateOrderRequest> orderRequests) {
+        List<Long> menuIds = orderRequests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateOrderRequest::getOrderLineItems)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .map(OrderLineItemRequest::getMenuId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        return existingMenuQuery.findExistingMenuIds(menuIds);
+    }
+
+    private Order createValidatedOrder(CreateOrderRequest request, Map<Long, Boolean> emptinessByOrderTableId,
+            Set<Long> existingMenuIds) {
+        if (request == null || isEmpty(request.getOrderLineItems())) {
+            throw new OrderLineEmptyException();
+        }
+        List<OrderLineItemRequest> orderLineItemRequests = request.getOrderLineItems();
+        validateOrderTableAvailable(request.getOrderTableId(), emptinessByOrderTableId);
+        validateOrderLineMenusExist(orderLineItemRequests, existingMenuIds);
+
+        Order order = new Order(request.getOrderTableId(), OrderStatus.COOKING, LocalDateTime.now());
+        order.setupOrderLineItems(orderLineItemRequests.stream()
+                .map(this::createOrderLineItem)
+                .collect(Collectors.toList()));
+        return order;
+    }
+
+    private boolean isEmpty(List<OrderLineItemRequest> orderLineItemRequests) {
+        return orderLineItemRequests == null
+                || orderLineItemRequests.isEmpty()
+                || orderLineItemRequests.stream().anyMatch(Objects::isNull);
+    }
+
+    private void validateOrderTableAvailable(Long orderTableId, Map<Long, Boolean> emptinessByOrderTableId) {
+        if (!Boolean.FALSE.equals(emptinessByOrderTableId.get(orderTableId))) {
+            throw new OrderTableUnavailableException(orderTableId);
+        }
+    }
+
+    private void validateOrderLineMenusExist(List<OrderLineItemRequest> orderLineItemRequests,
+            Set<Long> existingMenuIds) {
+        List<Long> missingMenuIds = orderLineItemRequests.stream()
+                .map(OrderLineItemRequest::getMenuId)
+                .filter(menuId -> !existingMenuIds.contains(menuId))
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (!missingMenuIds.isEmpty()) {
+            throw new OrderLineMenuNotFoundException(missingMenuIds);
+        }
+    }
+
     public List<OrderResponse> findAll() {
-        List<Order> orders = orderRepository.findAll();
+        List<Order> orders = orderRepository.findAllWithOrderLineItems();
+        List<ArchivedOrder> archivedOrders = archivedOrderRepository.findAllWithOrderLineItems();
+
+        return toOrderResponses(orders, archivedOrders);
+    }
 
-        return orders.stream()
+    private List<OrderResponse> toOrderResponses(List<Order> orders, List<ArchivedOrder> archivedOrders) {
+        Stream<OrderResponse> orderResponses = orders.stream()
+                .map(each -> OrderResponse.from(each, each.getOrderLineItems()));
+        Stream<OrderResponse> archivedOrderResponses = archivedOrders.stream()
+                .map(each -> OrderResponse.from(each, each.getOrderLineItems()));
+
+        return Stream.concat(orderResponses, archivedOrderResponses)
+                .sorted(Comparator.comparing(OrderResponse::getId))
+                .collect(Collectors.toList());
+    }
+
+    public OrderResponse findById(Long orderId) {
+        return orderRepository.findById(orderId)
+                .map(each -> OrderResponse.from(each, each.getOrderLineItems()))
+                .orElseGet(() -> findArchivedById(orderId));
+    }
+
+    private OrderResponse findArchivedById(Long orderId) {
+        return archivedOrderRepository.findById(orderId)
                 .map(each -> OrderResponse.from(each, each.getOrderLineItems()))
+                .orElseThrow(OrderNotFoundException::new);
+    }
+
+    public List<OrderResponse> findAllByOrderStatus(List<String> orderStatuses, LocalDateTime since) {
+        List<OrderStatus> statuses = orderStatuses.stream()
+                .map(OrderStatus::valueOf)
+                .distinct()
+                .collect(Collectors.toList());
+        List<Order> orders = findAllWithOrderLineItemsByOrderStatus(statuses, since);
+        List<ArchivedOrder> archivedOrders = findArchivedWithOrderLineItemsByOrderStatus(statuses, since);
+
+        return toOrderResponses(orders, archivedOrders);
+    }
+
+    private List<Order> findAllWithOrderLineItemsByOrderStatus(List<OrderStatus> orderStatuses, LocalDateTime since) {
+        if (since == null) {
+            return orderRepository.findAllWithOrderLineItemsByOrderStatusIn(orderStatuses);
+        }
+        return orderRepository.findAllWithOrderLineItemsByOrderStatusInAndOrderedTimeSince(orderStatuses, since);
+    }
+
+    private List<ArchivedOrder> findArchivedWithOrderLineItemsByOrderStatus(List<OrderStatus> orderStatuses,
+            LocalDateTime since) {
+        if (!orderStatuses.contains(OrderStatus.COMPLETION)) {
+            return List.of();
+        }
+        if (since == null) {
+            return archivedOrderRepository.findAllWithOrderLineItemsByOrderStatusIn(orderStatuses);
+        }
+        return archivedOrderRepository.findAllWithOrderLineItemsByOrderStatusInAndOrderedTimeSince(orderStatuses,
+                since);
+    }
+
+    public OrderSliceResponse findSlice(OrderSliceRequest request) {
+        validateSliceLimit(request.getLimit());
+        OrderCursor cursor = OrderCursor.decode(request.getCursor());
+        OrderStatus orderStatus = toOrderStatus(request.getOrderStatus());
+        PageRequest pageRequest = PageRequest.of(0, request.getLimit() + 1);
+
+        List<Order> orders = orderRepository.findSliceAfter(cursor.getAfterId(), request.getOrderTableId(),
+                orderStatus, pageRequest);
+        fetchOrderLineItems(orders);
+        List<ArchivedOrder> archivedOrders = findArchivedSlice(cursor, request.getOrderTableId(), orderStatus,
+                pageRequest);
+
+        List<OrderResponse> orderResponses = toOrderResponses(orders, archivedOrders);
+        return OrderSliceResponse.of(limit(orderResponses, pageRequest.getPageSize()), request.getLimit());
+    }
+
+    private List<ArchivedOrder> findArchivedSlice(OrderCursor cursor, Long orderTableId, OrderStatus orderStatus,
+            PageRequest pageRequest) {
+        if (orderStatus != null && !orderStatus.isCompleted()) {
+            return List.of();
+        }
+        List<ArchivedOrder> archivedOrders = archivedOrderRepository.findSliceAfter(cursor.getAfterId(),
+                orderTableId, orderStatus, pageRequest);
+        fetchArchivedOrderLineItems(archivedOrders);
+
+        return archivedOrders;
+    }
+
+    private void fetchArchivedOrderLineItems(List<ArchivedOrder> archivedOrders) {
+        if (archivedOrders.isEmpty()) {
+            return;
+        }
+        List<Long> orderIds = archivedOrders.stream()
+                .map(ArchivedOrder::getId)
+                .collect(Collectors.toList());
+
+        archivedOrderRepository.findAllWithOrderLineItemsByIdIn(orderIds);
+    }
+
+    private List<OrderResponse> limit(List<OrderResponse> orderResponses, int size) {
+        if (orderResponses.size() <= size) {
+            return orderResponses;
+        }
+        return orderResponses.subList(0, size);
+    }
+
+    private void fetchOrderLineItems(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<Long> orderIds = orders.stream()
+                .map(Order::getId)
                 .collect(Collectors.toList());
+
+        orderRepository.findAllWithOrderLineItemsByIdIn(orderIds);
+    }
+
+    private void validateSliceLimit(int limit) {
+        if (limit < SLICE_LIMIT_LOWER_BOUND || limit > SLICE_LIMIT_UPPER_BOUND) {
+            throw new InvalidOrderSliceLimitException();
+        }
+    }
+
+    private OrderStatus toOrderStatus(String orderStatus) {
+        if (orderStatus == null) {
+            return null;
+        }
+        return OrderStatus.valueOf(orderStatus);
+    }
+
+    public void exportAll(Consumer<OrderResponse> consumer) {
+        Set<Long> exportedOrderIds = new HashSet<>();
+        try (Stream<Object[]> rows = orderRepository.streamAllWithOrderLineItems()) {
+            new OrderRowIterator<Order, OrderLineItem>(rows.iterator(), Order::getId, OrderResponse::from,
+                    entityManager::detach)
+                    .forEachRemaining(consumer.andThen(each -> exportedOrderIds.add(each.getId())));
+        }
+        try (Stream<Object[]> archivedRows = archivedOrderRepository.streamAllWithOrderLineItems()) {
+            new OrderRowIterator<ArchivedOrder, ArchivedOrderLineItem>(archivedRows.iterator(), ArchivedOrder::getId,
+                    OrderResponse::from, entityManager::detach)
+                    .forEachRemaining(each -> exportIfNotExported(each, exportedOrderIds, consumer));
+        }
+    }
+
+    private void exportIfNotExported(OrderResponse response, Set<Long> exportedOrderIds,
+            Consumer<OrderResponse> consumer) {
+        if (!exportedOrderIds.contains(response.getId())) {
+            consumer.accept(response);
+        }
     }
 
     @Transactional
     public OrderResponse changeOrderStatus(Long orderId, ChangeOrderStatusRequest request) {
         Order order = orderRepository.findById(orderId)
-                .orElseThrow(OrderNotFoundException::new);
+                .orElseThrow(() -> orderNotFoundOrCompleted(orderId));
         order.changeOrderStatus(OrderStatus.valueOf(request.getOrderStatus()));
 
-        return OrderResponse.from(order, order.getOrderLineItems());
+        return publishOrderChanged(order);
+    }
+
+    private RuntimeException orderNotFoundOrCompleted(Long orderId) {
+        if (archivedOrderRepository.existsById(orderId)) {
+            return new OrderIsCompletedException();
+        }
+        return new OrderNotFoundException();
     }
 
     public void validateOrdersCompleted(Long orderTableId) {
-        List<Order> orders = orderRepository.findByOrderTableId(orderTableId);
-        for (Order order : orders) {
-            order.validateOrderIsCompleted();
+        if (orderRepository.existsByOrderTableIdAndOrderStatusNot(orderTableId, OrderStatus.COMPLETION)) {
+            throw new OrderIsNotCompletedException();
+        }
+    }
+
+    public void validateOrdersCompleted(List<Long> orderTableIds) {
+        if (orderTableIds.isEmpty()) {
+            return;
+        }
+        List<Long> notCompletedOrderTableIds = orderRepository.findOrderTableIdsByOrderTableIdInAndOrderStatusNot(
+                orderTableIds, OrderStatus.COMPLETION);
+
+        if (!notCompletedOrderTableIds.isEmpty()) {
+            throw new OrderIsNotCompletedException(notCompletedOrderTableIds);
         }
     }
 }
@@ -0,0 +1,9 @@
+package kitchenpos.service;
+
+import java.util.List;
+import java.util.Map;
+
+public interface OrderTableEmptinessQuery {
+
+    Map<Long, Boolean> findEmptinessByIds(List<Long> orderTableIds);
+}
@@ -1,5 +1,7 @@
 package kitchenpos.exception;
 
+import java.util.List;
+
 public class ProductNotFoundException extends RuntimeException {
 
     private static final String MESSAGE = "상품을 찾을 수 없습니다.";
@@ -7,4 +9,8 @@ public class ProductNotFoundException extends RuntimeException {
     public ProductNotFoundException() {
         super(MESSAGE);
     }
+
+    public ProductNotFoundException(List<Long> productIds) {
+        super(MESSAGE + " 상품 아이디: " + productIds);
+    }
 }
@@ -35,6 +35,6 @@ class ProductTest {
 
         // when, then
         assertThat(product.getName()).isNull();
-        assertThat(product.getPrice()).isEqualTo(BigDecimal.valueOf(1000L));
+        assertThat(product.getPrice()).isEqualTo(new BigDecimal("1000.00"));
     }
 }
@@ -5,6 +5,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import kitchenpos.exception.NotEnoughGuestsException;
 import kitchenpos.exception.OrderTableEmptyException;
@@ -18,7 +19,8 @@ public class OrderTable {
     private static final int NUMBER_OF_GUESTS_LOWER_LIMIT = 0;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_table_seq_generator")
+    @SequenceGenerator(name = "order_table_seq_generator", sequenceName = "order_table_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "table_group_id")
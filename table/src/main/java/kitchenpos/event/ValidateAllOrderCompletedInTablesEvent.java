@@ -0,0 +1,16 @@
+package kitchenpos.event;
+
+import java.util.List;
+
+public class ValidateAllOrderCompletedInTablesEvent {
+
+    private final List<Long> orderTableIds;
+
+    public ValidateAllOrderCompletedInTablesEvent(List<Long> orderTableIds) {
+        this.orderTableIds = orderTableIds;
+    }
+
+    public List<Long> getOrderTableIds() {
+        return orderTableIds;
+    }
+}
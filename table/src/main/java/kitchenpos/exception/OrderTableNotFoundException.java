@@ -1,5 +1,7 @@
 package kitchenpos.exception;
 
+import java.util.List;
+
 public class OrderTableNotFoundException extends RuntimeException {
 
     private static final String MESSAGE = "주문 테이블을 찾을 수 없습니다.";
@@ -7,4 +9,8 @@ public class OrderTableNotFoundException extends RuntimeException {
     public OrderTableNotFoundException() {
         super(MESSAGE);
     }
+
+    public OrderTableNotFoundException(List<Long> orderTableIds) {
+        super(MESSAGE + " 주문 테이블 아이디: " + orderTableIds);
+    }
 }
@@ -1,8 +1,11 @@
 package kitchenpos.service;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import kitchenpos.event.ValidateAllOrderCompletedEvent;
+import kitchenpos.event.ValidateAllOrderCompletedInTablesEvent;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.dto.request.ChangeEmptyTableRequest;
 import kitchenpos.dto.request.ChangeTableGuestRequest;
@@ -75,10 +78,11 @@ public class TableService {
     }
 
     private void validateAllOrdersCompleted(List<OrderTable> orderTables) {
-        orderTables.stream()
+        List<Long> orderTableIds = orderTables.stream()
                 .map(OrderTable::getId)
-                .collect(Collectors.toList())
-                .forEach(each -> eventPublisher.publishEvent(new ValidateAllOrderCompletedEvent(each)));
+                .collect(Collectors.toList());
+
+        eventPublisher.publishEvent(new ValidateAllOrderCompletedInTablesEvent(orderTableIds));
     }
 
     private void unGroupOrderTables(List<OrderTable> orderTables) {
@@ -89,7 +93,11 @@ public class TableService {
 
     @Transactional
     public void groupOrderTables(Long tableGroupId, List<Long> orderTableIds) {
-        List<OrderTable> orderTables = findOrderTables(orderTableIds);
+        groupLoadedOrderTables(tableGroupId, findOrderTables(orderTableIds));
+    }
+
+    @Transactional
+    public void groupLoadedOrderTables(Long tableGroupId, List<OrderTable> orderTables) {
         for (OrderTable orderTable : orderTables) {
             orderTable.changeTableGroup(tableGroupId);
         }
@@ -116,4 +124,13 @@ public class TableService {
                 .orElseThrow(OrderTableNotFoundException::new);
         orderTable.validateIsNotEmpty();
     }
+
+    public Map<Long, Boolean> findEmptinessByIds(List<Long> orderTableIds) {
+        if (orderTableIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return orderTableRepository.findAllByIdIn(orderTableIds)
+                .stream()
+                .collect(Collectors.toMap(OrderTable::getId, OrderTable::isEmpty));
+    }
 }
@@ -5,6 +5,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 @Table(name = "table_group")
@@ -12,7 +13,8 @@ import javax.persistence.Table;
 public class TableGroup {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "table_group_seq_generator")
+    @SequenceGenerator(name = "table_group_seq_generator", sequenceName = "table_group_seq", allocationSize = 50)
     private Long id;
 
     private LocalDateTime createdDate;
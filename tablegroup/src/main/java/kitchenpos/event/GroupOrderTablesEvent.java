@@ -1,22 +1,23 @@
 package kitchenpos.event;
 
 import java.util.List;
+import kitchenpos.domain.OrderTable;
 
 public class GroupOrderTablesEvent {
 
     private final Long tableGroupId;
-    private final List<Long> orderTableIds;
+    private final List<OrderTable> orderTables;
 
-    public GroupOrderTablesEvent(Long tableGroupId, List<Long> orderTableIds) {
+    public GroupOrderTablesEvent(Long tableGroupId, List<OrderTable> orderTables) {
         this.tableGroupId = tableGroupId;
-        this.orderTableIds = orderTableIds;
+        this.orderTables = orderTables;
     }
 
     public Long getTableGroupId() {
         return tableGroupId;
     }
 
-    public List<Long> getOrderTableIds() {
-        return orderTableIds;
+    public List<OrderTable> getOrderTables() {
+        return orderTables;
     }
 }
@@ -0,0 +1,10 @@
+package kitchenpos.exception;
+
+public class DuplicateOrderTableException extends RuntimeException {
+
+    private static final String MESSAGE = "같은 테이블을 중복해서 지정할 수 없습니다.";
+
+    public DuplicateOrderTableException() {
+        super(MESSAGE);
+    }
+}
@@ -2,6 +2,8 @@ package kitchenpos.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.TableGroup;
@@ -10,6 +12,7 @@ import kitchenpos.dto.request.OrderTableRequest;
 import kitchenpos.dto.response.TableGroupResponse;
 import kitchenpos.event.GroupOrderTablesEvent;
 import kitchenpos.event.UngroupOrderTablesEvent;
+import kitchenpos.exception.DuplicateOrderTableException;
 import kitchenpos.exception.OrderTableNotFoundException;
 import kitchenpos.exception.TableGroupNotFoundException;
 import kitchenpos.repository.OrderTableRepository;
@@ -44,18 +47,40 @@ public class TableGroupService {
     }
 
     private List<OrderTable> findOrderTables(List<OrderTableRequest> orderTableRequests) {
-        return orderTableRequests.stream()
-                .map(each -> orderTableRepository.findById(each.getId())
-                        .orElseThrow(OrderTableNotFoundException::new))
+        List<Long> orderTableIds = orderTableRequests.stream()
+                .map(OrderTableRequest::getId)
+                .distinct()
+                .collect(Collectors.toList());
+        validateNoDuplicateOrderTables(orderTableIds, orderTableRequests);
+        Map<Long, OrderTable> orderTablesById = orderTableRepository.findAllByIdIn(orderTableIds)
+                .stream()
+                .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+        validateOrderTablesExist(orderTableIds, orderTablesById);
+
+        return orderTableIds.stream()
+                .map(orderTablesById::get)
                 .collect(Collectors.toList());
     }
 
-    private void publishGroupOrderTablesEvent(List<OrderTable> orderTables, TableGroup tableGroup) {
-        List<Long> orderTableIds = orderTables.stream()
-                .map(OrderTable::getId)
+    private void validateNoDuplicateOrderTables(List<Long> orderTableIds,
+            List<OrderTableRequest> orderTableRequests) {
+        if (orderTableIds.size() != orderTableRequests.size()) {
+            throw new DuplicateOrderTableException();
+        }
+    }
+
+    private void validateOrderTablesExist(List<Long> orderTableIds, Map<Long, OrderTable> orderTablesById) {
+        List<Long> missingOrderTableIds = orderTableIds.stream()
+                .filter(each -> !orderTablesById.containsKey(each))
                 .collect(Collectors.toList());
 
-        eventPublisher.publishEvent(new GroupOrderTablesEvent(tableGroup.getId(), orderTableIds));
+        if (!missingOrderTableIds.isEmpty()) {
+            throw new OrderTableNotFoundException(missingOrderTableIds);
+        }
+    }
+
+    private void publishGroupOrderTablesEvent(List<OrderTable> orderTables, TableGroup tableGroup) {
+        eventPublisher.publishEvent(new GroupOrderTablesEvent(tableGroup.getId(), orderTables));
     }
 
     @Transactional